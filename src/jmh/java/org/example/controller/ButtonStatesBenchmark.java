@@ -0,0 +1,90 @@
+package org.example.controller;
+
+import org.example.model.BenchmarkData;
+import org.example.model.ProgressStore;
+import org.example.view.Card;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks restoring the saved state of the cards at startup, from a JSON states array as
+ * {@link Controller#applyButtonStates} does and from a progress store.
+ * The Controller itself needs a display, so the ButtonIndex it delegates to is measured directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class ButtonStatesBenchmark {
+    @Param({"100", "10000", "100000", "1000000"})
+    public int size;
+    private final ImageIcon greenIcon = new ImageIcon(new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB));
+    private final ImageIcon grayIcon = new ImageIcon(new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB));
+    private Path directory;
+    private List<Card<String>> cards;
+    private ButtonIndex<String> buttonIndex;
+    private JSONArray buttonStates;
+    private ProgressStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        cards = new ArrayList<>(size);
+        buttonStates = new JSONArray();
+        for (int i = 0; i < size; i++) {
+            cards.add(new Card<>(BenchmarkData.title(i), null, BenchmarkData.title(i)));
+            buttonStates.put(new JSONObject().put("text", BenchmarkData.title(i))
+                    .put("icon", i % 3 == 0 ? "green" : "gray"));
+        }
+        buttonIndex = ButtonIndex.of(cards);
+        directory = Files.createTempDirectory("buttonStatesBenchmark");
+        store = new ProgressStore(directory.resolve("progress").toString());
+        store.migrate(buttonStates);
+        store.save();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkData.delete(directory);
+    }
+
+    /**
+     * Indexes the cards and applies a JSON states array to them.
+     */
+    @Benchmark
+    public int applyButtonStates() {
+        return ButtonIndex.of(cards).applyStates(buttonStates, greenIcon, grayIcon);
+    }
+
+    /**
+     * Loads the progress store and applies it to the indexed cards.
+     */
+    @Benchmark
+    public int restoreProgress() {
+        store.load();
+        return buttonIndex.applyProgress(store, greenIcon, grayIcon);
+    }
+}
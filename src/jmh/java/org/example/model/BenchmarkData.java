@@ -0,0 +1,95 @@
+package org.example.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The BenchmarkData class generates the decks the benchmarks run on. The data is deterministic, so results
+ * from different runs and releases are comparable. Files come from {@link DeckGenerator} with its default seed;
+ * in-memory titles combine two words of a fixed vocabulary with a number, and one title in ten repeats an
+ * earlier one, as duplicate titles do in real decks.
+ */
+public final class BenchmarkData {
+    private static final String[] WORDS = {
+        "Polymorphism", "Inheritance", "Encapsulation", "Abstraction", "Interfaces", "Generics", "Collections",
+        "Streams", "Lambdas", "Exceptions", "Threads", "Synchronization", "Annotations", "Reflection", "Records",
+        "Enums", "Arrays", "Strings", "Iterators", "Modules", "Serialization", "Recursion", "Sorting", "Hashing"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Gets the title of an entry of a generated deck.
+     *
+     * @param index the position of the entry.
+     * @return the title.
+     */
+    public static String title(int index) {
+        int n = index % 10 == 9 ? index / 2 : index;
+        return WORDS[n % WORDS.length] + " " + WORDS[(n / WORDS.length) % WORDS.length] + " " + n;
+    }
+
+    /**
+     * Gets the titles of a generated deck.
+     *
+     * @param size the number of entries.
+     * @return the titles in deck order.
+     */
+    public static List<String> titles(int size) {
+        List<String> titles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            titles.add(title(i));
+        }
+        return titles;
+    }
+
+    /**
+     * Writes a flashcards file in the format of flashcardsInfo.json with {@link DeckGenerator}.
+     *
+     * @param path the file to write.
+     * @param size the number of flashcards.
+     */
+    public static void writeFlashcards(Path path, int size) {
+        generator(size, 0, 0).writeFlashcards(path.toString());
+    }
+
+    /**
+     * Writes a questions file in the format of questions.json with {@link DeckGenerator}, with ten questions
+     * per category.
+     *
+     * @param path the file to write.
+     * @param size the number of questions, a multiple of ten.
+     */
+    public static void writeQuestions(Path path, int size) {
+        generator(0, size / 10, 10).writeQuestions(path.toString());
+    }
+
+    /**
+     * Deletes a directory created for a benchmark with everything in it.
+     *
+     * @param directory the directory to delete.
+     * @throws IOException if a file cannot be deleted.
+     */
+    public static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static DeckGenerator generator(int cards, int categories, int questionsPerCategory) {
+        return new DeckGenerator(DeckGenerator.DEFAULT_SEED, cards, categories, questionsPerCategory,
+                DeckGenerator.DEFAULT_CHOICES, DeckGenerator.DEFAULT_CHOICES,
+                DeckGenerator.DEFAULT_MIN_INFO_LENGTH, DeckGenerator.DEFAULT_MAX_INFO_LENGTH);
+    }
+}
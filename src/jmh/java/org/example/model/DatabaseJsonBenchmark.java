@@ -0,0 +1,74 @@
+package org.example.model;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading the flashcards file, as done at startup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class DatabaseJsonBenchmark {
+
+    /**
+     * A generated flashcards file.
+     */
+    @State(Scope.Benchmark)
+    public static class Deck {
+        @Param({"100", "10000", "100000", "1000000"})
+        public int size;
+        Path directory;
+        String path;
+        DatabaseJson databaseJson;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("databaseJsonBenchmark");
+            path = directory.resolve("flashcards.json").toString();
+            BenchmarkData.writeFlashcards(Path.of(path), size);
+            databaseJson = new DatabaseJson(path);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            BenchmarkData.delete(directory);
+        }
+    }
+
+    /**
+     * Loads the titles and Info positions of every flashcard, which is what the application keeps.
+     */
+    @Benchmark
+    public List<Flashcard> readFlashcards(Deck deck) {
+        return new DatabaseJson(deck.path).getFlashcards();
+    }
+
+    /**
+     * Loads every flashcard as a JSON object, with its Info text.
+     */
+    @Benchmark
+    public List<JSONObject> loadFlashcards(Deck deck) {
+        return deck.databaseJson.loadFlashcards();
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading and writing a button states file with JsonUtils.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class JsonUtilsBenchmark {
+    @Param({"100", "10000", "100000", "1000000"})
+    public int size;
+    private Path directory;
+    private String readPath;
+    private String writePath;
+    private JSONArray states;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jsonUtilsBenchmark");
+        readPath = directory.resolve("read.json").toString();
+        writePath = directory.resolve("write.json").toString();
+        states = new JSONArray();
+        for (int i = 0; i < size; i++) {
+            states.put(new JSONObject().put("text", BenchmarkData.title(i))
+                    .put("icon", i % 3 == 0 ? "green" : "gray"));
+        }
+        JsonUtils.writeJsonFile(readPath, states);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkData.delete(directory);
+    }
+
+    @Benchmark
+    public JSONArray readJsonFile() {
+        return JsonUtils.readJsonFile(readPath);
+    }
+
+    /**
+     * Streams the records of the file without building the whole array.
+     */
+    @Benchmark
+    public int readJsonRecords() {
+        return JsonUtils.readJsonRecords(readPath, record -> { });
+    }
+
+    @Benchmark
+    public void writeJsonFile() {
+        JsonUtils.writeJsonFile(writePath, states);
+    }
+
+    /**
+     * Streams the states into the file without building a JSONArray first.
+     */
+    @Benchmark
+    public void writeJsonFileStreaming() {
+        JsonUtils.writeJsonFile(writePath, writer -> {
+            writer.beginArray();
+            for (int i = 0; i < size; i++) {
+                writer.beginObject();
+                writer.name("text").value(BenchmarkData.title(i));
+                writer.name("icon").value(i % 3 == 0 ? "green" : "gray");
+                writer.endObject();
+            }
+            writer.endArray();
+        }, false);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the multi-user progress store under 64 threads: 58 checking completions and 6 recording them,
+ * spread over a thousand users, with the changes saved in the background.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class MultiUserProgressStoreBenchmark {
+    private static final int USERS = 1000;
+
+    @Param({"100", "10000", "100000", "1000000"})
+    public int size;
+    private Path directory;
+    private MultiUserProgressStore store;
+    private String[] users;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("multiUserProgressStoreBenchmark");
+        store = new MultiUserProgressStore(directory.toString());
+        users = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            users[i] = "user" + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        BenchmarkData.delete(directory);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(58)
+    public boolean isDone() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return store.isDone(users[random.nextInt(USERS)], random.nextInt(size));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public boolean complete() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return store.complete(users[random.nextInt(USERS)], random.nextInt(size));
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks loading the questions file, eagerly and through the lazy category index, against the original
+ * loader that read the whole file into one string and parsed it into a JSON tree.
+ * The JMH profile runs with the GC profiler, so gc.alloc.rate.norm reports the bytes each load allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class QuizDataBenchmark {
+    @Param({"100", "10000", "100000", "1000000"})
+    public int size;
+    private Path directory;
+    private String path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("quizDataBenchmark");
+        path = directory.resolve("questions.json").toString();
+        BenchmarkData.writeQuestions(Path.of(path), size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkData.delete(directory);
+    }
+
+    /**
+     * Loads every question the way QuizData originally did: the file joined into one string, parsed into a
+     * JSON tree, then copied into QuizQuestion objects. The baseline for {@link #loadQuizData()}.
+     */
+    @Benchmark
+    public Map<String, List<QuizQuestion>> loadJsonTreeBaseline() throws IOException {
+        Map<String, List<QuizQuestion>> categorizedQuestions = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8)) {
+            String jsonData = reader.lines().collect(Collectors.joining());
+            JSONArray jsonArray = new JSONArray(jsonData);
+            for (int i = 0; i < jsonArray.length(); i++) {
+                JSONObject categoryObject = jsonArray.getJSONObject(i);
+                JSONArray questionsArray = categoryObject.getJSONArray("questions");
+                List<QuizQuestion> questions = new ArrayList<>();
+                for (int j = 0; j < questionsArray.length(); j++) {
+                    JSONObject questionObj = questionsArray.getJSONObject(j);
+                    questions.add(new QuizQuestion(
+                            questionObj.getString("questionText"),
+                            questionObj.getJSONArray("choices").toList().stream()
+                                    .map(Object::toString).collect(Collectors.toList()),
+                            questionObj.getInt("correctAnswerIndex")));
+                }
+                categorizedQuestions.put(categoryObject.getString("category"), questions);
+            }
+        }
+        return categorizedQuestions;
+    }
+
+    /**
+     * Parses every question with {@link QuizData#loadQuizData()}.
+     */
+    @Benchmark
+    public QuizData loadQuizData() {
+        return new QuizData(path);
+    }
+
+    /**
+     * Reads only the category names and positions, from the index file after the first run.
+     */
+    @Benchmark
+    public QuizData loadCategoryIndex() {
+        return new QuizData(path, true);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the searches behind the search field of the frames: the title filter, which runs on every
+ * keystroke, and the typo-tolerant category search.
+ * The frames themselves cannot be created without a display, so the indexes are measured directly;
+ * updating the grid with the result is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class SearchBenchmark {
+    @Param({"100", "10000", "100000", "1000000"})
+    public int size;
+    private TitleSearchIndex titleIndex;
+    private FuzzyMatcher fuzzyMatcher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> titles = BenchmarkData.titles(size);
+        titleIndex = new TitleSearchIndex(titles);
+        fuzzyMatcher = new FuzzyMatcher();
+        titles.forEach(fuzzyMatcher::add);
+    }
+
+    /**
+     * Filters the titles by a substring, as the frame search does.
+     */
+    @Benchmark
+    public BitSet titleFilter() {
+        return titleIndex.search("morph");
+    }
+
+    /**
+     * Filters the titles by a substring that no title contains.
+     */
+    @Benchmark
+    public BitSet titleFilterNoMatch() {
+        return titleIndex.search("xyzzy");
+    }
+
+    /**
+     * Finds titles despite a typo in each query word.
+     */
+    @Benchmark
+    public List<String> fuzzySearch() {
+        return fuzzyMatcher.search("polymorfism genrics", 20);
+    }
+}
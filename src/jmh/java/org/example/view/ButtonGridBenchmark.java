@@ -0,0 +1,143 @@
+package org.example.view;
+
+import org.example.model.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.ImageIcon;
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks populating a card frame against the number of cards: one layout pass per button as
+ * addButton did, one pass for all buttons as addButtons does, the first chunk that addButtonsProgressively
+ * lays out before the first paint, and the virtualized grid that shows the cards built by the controller.
+ * The frame itself needs a display, so the panel and grid it fills are measured directly, each layout pass
+ * computing the preferred size of the whole panel and placing every button as validation does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class ButtonGridBenchmark {
+    private static final ImageIcon ICON = new ImageIcon(new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB));
+
+    /**
+     * The titles of a deck of cards.
+     */
+    @State(Scope.Benchmark)
+    public static class Deck {
+        @Param({"100", "1000", "10000", "100000"})
+        public int size;
+        List<String> titles;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            titles = BenchmarkData.titles(size);
+        }
+    }
+
+    /**
+     * The titles of a deck small enough for {@link #addOneByOne(SmallDeck)}, which lays out the growing panel
+     * once per button and so grows with the square of the deck size.
+     */
+    @State(Scope.Benchmark)
+    public static class SmallDeck {
+        @Param({"100", "1000"})
+        public int size;
+        List<String> titles;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            titles = BenchmarkData.titles(size);
+        }
+    }
+
+    /**
+     * Adds the buttons one at a time, laying the panel out after each.
+     */
+    @Benchmark
+    public JPanel addOneByOne(SmallDeck deck) {
+        JPanel panel = ButtonGridFrame.createPanel();
+        for (String title : deck.titles) {
+            panel.add(newButton(title));
+            layOut(panel);
+        }
+        return panel;
+    }
+
+    /**
+     * Adds every button and lays the panel out once.
+     */
+    @Benchmark
+    public JPanel addInBulk(Deck deck) {
+        JPanel panel = ButtonGridFrame.createPanel();
+        for (String title : deck.titles) {
+            panel.add(newButton(title));
+        }
+        layOut(panel);
+        return panel;
+    }
+
+    /**
+     * Creates every button but places and lays out only the first chunk, the work done before the first
+     * paint when the rest is placed on later ticks.
+     */
+    @Benchmark
+    public JPanel addFirstChunk(Deck deck) {
+        JPanel panel = ButtonGridFrame.createPanel();
+        List<JButton> buttons = new ArrayList<>(deck.size);
+        for (String title : deck.titles) {
+            buttons.add(newButton(title));
+        }
+        for (int i = 0; i < Math.min(buttons.size(), ButtonGridFrame.DEFAULT_CHUNK_SIZE); i++) {
+            panel.add(buttons.get(i));
+        }
+        layOut(panel);
+        return panel;
+    }
+
+    /**
+     * Shows the deck as cards in the virtualized grid and lays it out.
+     */
+    @Benchmark
+    public CardGrid<String> populateCardGrid(Deck deck) {
+        CardGrid<String> grid = new CardGrid<>();
+        List<Card<String>> cards = new ArrayList<>(deck.size);
+        for (String title : deck.titles) {
+            cards.add(new Card<>(title, ICON, title));
+        }
+        grid.setCards(cards);
+        layOut(grid);
+        return grid;
+    }
+
+    private static JButton newButton(String title) {
+        JButton button = new JButton(title, ICON);
+        ButtonGridFrame.setButtonProperties(button);
+        return button;
+    }
+
+    private static void layOut(JComponent component) {
+        Dimension size = component.getPreferredSize();
+        component.setSize(940, size.height);
+        component.doLayout();
+    }
+}
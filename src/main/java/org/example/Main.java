@@ -1,18 +1,30 @@
 package org.example;
 
 import org.example.controller.Controller;
-import javax.swing.SwingUtilities;
+import org.example.controller.QuizServer;
+import org.example.model.DeckGenerator;
+
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * The Main class serves as the entry point for the application.
- * It initializes the Swing application by invoking the Controller class,
- * which sets up the main user interface and manages the interaction between
- * the model and view components.
+ * It initializes the Swing application by launching the Controller class,
+ * which loads the data in the background, sets up the main user interface and
+ * manages the interaction between the model and view components.
+ * Started with {@code --server [port]}, it serves the quizzes over HTTP instead (see {@link QuizServer}), and
+ * with {@code --generate <directory> [name=value ...]} it writes a synthetic deck (see {@link DeckGenerator}).
  *
  * @author Mounir Darwich
  */
 public class Main {
-    public static void main(String[] args) {
-        SwingUtilities.invokeLater(Controller::new);
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--server")) {
+            QuizServer.run(args.length > 1 ? Integer.parseInt(args[1]) : QuizServer.DEFAULT_PORT);
+        } else if (args.length > 1 && args[0].equals("--generate")) {
+            DeckGenerator.fromOptions(Arrays.copyOfRange(args, 2, args.length)).writeTo(args[1]);
+        } else {
+            Controller.launch();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package org.example.controller;
+
+import org.example.model.ProgressStore;
+import org.example.view.Card;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import javax.swing.ImageIcon;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ButtonIndex class maps card titles to the cards carrying them, in the order the cards were added.
+ * It is filled once as the cards are created, so saved progress can be restored in time linear in
+ * the number of states instead of scanning every card for every state. Progress is shown by setting the
+ * icon of the cards; the frame showing them has to be repainted afterwards.
+ *
+ * @param <T> the type of the entries the cards stand for
+ * @author Mounir Darwich
+ */
+class ButtonIndex<T> {
+    private final Map<String, List<Card<T>>> cardsByTitle = new HashMap<>();
+    private final List<Card<T>> cards = new ArrayList<>();
+
+    /**
+     * Creates an index over existing cards.
+     *
+     * @param cards the cards to index, in display order.
+     * @param <T>   the type of the entries the cards stand for.
+     * @return the index.
+     */
+    static <T> ButtonIndex<T> of(List<Card<T>> cards) {
+        ButtonIndex<T> index = new ButtonIndex<>();
+        cards.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Adds a card to the index under its title.
+     *
+     * @param card the card to add.
+     */
+    void add(Card<T> card) {
+        cards.add(card);
+        cardsByTitle.computeIfAbsent(card.getTitle(), title -> new ArrayList<>(1)).add(card);
+    }
+
+    /**
+     * Gets the cards carrying a title.
+     *
+     * @param title the title to look up.
+     * @return the cards with that title in the order they were added, or an empty list.
+     */
+    List<Card<T>> get(String title) {
+        return cardsByTitle.getOrDefault(title, List.of());
+    }
+
+    /**
+     * Gets which occurrence of its title a card is.
+     *
+     * @param card the card to look up.
+     * @return 0 for the first card with its title, 1 for the second and so on; 0 if the card is not indexed.
+     */
+    int occurrence(Card<T> card) {
+        return Math.max(0, get(card.getTitle()).indexOf(card));
+    }
+
+    /**
+     * Applies saved button states to the indexed cards.
+     * When several cards share a title, a state with an "n" field goes to the n-th of them; otherwise the
+     * states for that title are given to its cards in order, so the k-th state goes to the k-th card.
+     *
+     * @param buttonStates the saved states, each with a "text", an "icon" and an optional "n" field.
+     * @param greenIcon    the icon for the "green" state.
+     * @param grayIcon     the icon for any other state.
+     * @return the number of states that matched a card.
+     */
+    int applyStates(JSONArray buttonStates, ImageIcon greenIcon, ImageIcon grayIcon) {
+        Map<String, Integer> nextOccurrence = new HashMap<>();
+        int applied = 0;
+        for (int i = 0; i < buttonStates.length(); i++) {
+            JSONObject buttonState = buttonStates.getJSONObject(i);
+            String buttonText = buttonState.getString("text");
+            List<Card<T>> titled = get(buttonText);
+            int occurrence = buttonState.has("n")
+                    ? buttonState.getInt("n")
+                    : nextOccurrence.getOrDefault(buttonText, 0);
+            nextOccurrence.put(buttonText, occurrence + 1);
+            if (occurrence >= 0 && occurrence < titled.size()) {
+                String iconState = buttonState.getString("icon");
+                titled.get(occurrence).setIcon(iconState.equals("green") ? greenIcon : grayIcon);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Applies the completion states of a progress store to the indexed cards.
+     * Cards the store has not seen before get their ids here, in the order they were added.
+     *
+     * @param store     the progress store of the cards.
+     * @param greenIcon the icon for completed cards.
+     * @param grayIcon  the icon for the other cards.
+     * @return the number of completed cards.
+     */
+    int applyProgress(ProgressStore store, ImageIcon greenIcon, ImageIcon grayIcon) {
+        Map<String, Integer> nextOccurrence = new HashMap<>();
+        int completed = 0;
+        for (Card<T> card : cards) {
+            int occurrence = nextOccurrence.merge(card.getTitle(), 1, Integer::sum) - 1;
+            boolean done = store.isDone(store.id(card.getTitle(), occurrence));
+            card.setIcon(done ? greenIcon : grayIcon);
+            if (done) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+}
@@ -1,31 +1,28 @@
 package org.example.controller;
 
 import org.example.model.DatabaseJson;
-import org.example.model.JsonUtils;
+import org.example.model.Flashcard;
+import org.example.model.FullTextIndex;
+import org.example.model.ProgressStore;
 import org.example.model.QuizData;
 import org.example.model.QuizQuestion;
+import org.example.model.QuizResult;
+import org.example.model.QuizScorer;
+import org.example.model.WriteBehindService;
+import org.example.view.Card;
 import org.example.view.DetailFrame;
 import org.example.view.MainFrame;
 import org.example.view.QuizDetails;
 import org.json.JSONArray;
 import org.json.JSONObject;
-import javax.swing.JButton;
 import javax.swing.ImageIcon;
-import javax.swing.ButtonGroup;
-import javax.swing.JRadioButton;
 import javax.swing.JOptionPane;
-import javax.swing.AbstractButton;
-import javax.swing.Icon;
-import java.awt.Image;
+import javax.swing.SwingUtilities;
 import java.awt.event.ActionEvent;
-import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Enumeration;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * The Controller class orchestrates the interaction between the model and the view in the application.
@@ -35,56 +32,86 @@ import java.util.Map;
  */
 public class Controller {
 
-    private final Path BUTTON_STATE_FILE = Paths.get("button_states.json");
-    private final Path BUTTON_STATE_QUIZ_FILE = Paths.get("button_states_quiz.json");
+    private static final Path BUTTON_STATE_FILE = Paths.get("button_states.json");
+    private static final Path BUTTON_STATE_QUIZ_FILE = Paths.get("button_states_quiz.json");
+    static final int MAX_INFO_RESULTS = 200;
 
     final MainFrame mainFrame;
     private final DatabaseJson databaseJson;
     private final QuizData quizData;
-    final Map<JButton, String> buttonInfoMap;
-    final Map<JButton, String> quizButtonInfoMap;
+    final FullTextIndex infoIndex;
+    final ButtonIndex<Flashcard> flashcardIndex = new ButtonIndex<>();
+    final ButtonIndex<String> quizIndex = new ButtonIndex<>();
+    final ProgressStore flashcardProgress;
+    final ProgressStore quizProgress;
+    final WriteBehindService progressWriter = new WriteBehindService();
 
-    ImageIcon greenIcon;
-    ImageIcon grayIcon;
+    final ImageIcon greenIcon;
+    final ImageIcon grayIcon;
 
     /**
      * Constructs a new Controller instance, initializes the UI components, loads the data, and sets up event listeners.
+     * The data is loaded in parallel on worker threads; this constructor waits for it.
      */
     public Controller() {
-        initializeIcons();
-        this.databaseJson = new DatabaseJson();
-        this.quizData = new QuizData();
-        this.mainFrame = new MainFrame();
-        this.buttonInfoMap = new HashMap<>();
-        this.quizButtonInfoMap = new HashMap<>();
+        this(StartupData.load(BUTTON_STATE_FILE.toString(), BUTTON_STATE_QUIZ_FILE.toString()));
+    }
 
-        JsonUtils.ensureFileExists(BUTTON_STATE_FILE.toString());
-        JsonUtils.ensureFileExists(BUTTON_STATE_QUIZ_FILE.toString());
+    /**
+     * Constructs a new Controller instance from data that has already been loaded.
+     * Must be called on the Event Dispatch Thread, where it only builds and attaches the UI components.
+     *
+     * @param data the loaded icons, flashcards, quiz data and saved button states.
+     */
+    Controller(StartupData data) {
+        long start = System.nanoTime();
+        this.greenIcon = data.greenIcon;
+        this.grayIcon = data.grayIcon;
+        this.databaseJson = data.databaseJson;
+        this.quizData = data.quizData;
+        this.infoIndex = new FullTextIndex();
+        this.flashcardProgress = data.flashcardProgress;
+        this.quizProgress = data.quizProgress;
+        this.mainFrame = new MainFrame();
 
         initializeUI();
-        loadFlashcardsButtonStates();
-        loadQuizButtonStates();
+        flashcardIndex.applyProgress(flashcardProgress, greenIcon, grayIcon);
+        quizIndex.applyProgress(quizProgress, greenIcon, grayIcon);
+        StartupData.logPhase("UI build", start);
+        indexInfosInBackground();
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            saveButtonStates(buttonInfoMap, greenIcon, BUTTON_STATE_FILE.toString());
-            saveButtonStates(quizButtonInfoMap, greenIcon, BUTTON_STATE_QUIZ_FILE.toString());
+            progressWriter.close();
+            flashcardProgress.save();
+            quizProgress.save();
+            StartupData.debug("Progress writes: " + progressWriter.stats());
         }));
     }
 
+    /**
+     * Starts the application: the data is loaded off the Event Dispatch Thread, and only the finished
+     * components are built and attached on it.
+     */
+    public static void launch() {
+        long start = System.nanoTime();
+        StartupData.loadAsync(BUTTON_STATE_FILE.toString(), BUTTON_STATE_QUIZ_FILE.toString())
+                .thenAccept(data -> SwingUtilities.invokeLater(() -> {
+                    new Controller(data);
+                    StartupData.logPhase("startup", start);
+                }))
+                .exceptionally(e -> {
+                    System.err.println("Error starting the application: " + e.getMessage());
+                    e.printStackTrace();
+                    System.exit(1);
+                    return null;
+                });
+    }
 
     public String getBUTTON_STATE_FILE() {
         return BUTTON_STATE_FILE.toString();
     }
 
 
-    /**
-     * Initializes the icons used in the application.
-     */
-    private void initializeIcons() {
-        greenIcon = createScaledIcon("checkGrean.png");
-        grayIcon = createScaledIcon("checkGray.png");
-    }
-
     /**
      * Creates a scaled icon from the given path.
      *
@@ -92,107 +119,96 @@ public class Controller {
      * @return the scaled ImageIcon.
      */
     ImageIcon createScaledIcon(String resourceName) {
-        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourceName)) {
-            if (is == null) {
-                throw new IOException("Resource not found: " + resourceName);
-            }
-            byte[] imageBytes = is.readAllBytes();
-            ImageIcon icon = new ImageIcon(imageBytes);
-            Image image = icon.getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH);
-            return new ImageIcon(image);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load icon: " + resourceName, e);
-        }
+        return StartupData.loadScaledIcon(resourceName);
     }
 
     /**
-     * Initializes the user interface by creating buttons for flashcards and quizzes and adding listeners to them.
+     * Initializes the user interface by creating cards for flashcards and quizzes and the actions run on a click.
+     * The cards are plain models shown by the virtualized grid of each frame, so no component is created per entry.
      */
     private void initializeUI() {
-        databaseJson.getData().forEach(this::createButtonForFlashcardFrame);
-        quizData.getOrderedCategoryKeys().forEach(this::createButtonForQuizFrame);
+        List<Card<Flashcard>> flashcardCards = new ArrayList<>();
+        databaseJson.getFlashcards().forEach(flashcard -> flashcardCards.add(newFlashcardCard(flashcard)));
+        mainFrame.getFlashcardFrame().addCards(flashcardCards);
+
+        List<Card<String>> quizCards = new ArrayList<>();
+        quizData.getOrderedCategoryKeys().forEach(category -> quizCards.add(newQuizCard(category)));
+        mainFrame.getQuizFrame().addCards(quizCards);
 
-        addQuizListeners();
-        addFlashcardListeners();
+        mainFrame.getFlashcardFrame().setCardAction(this::showDetailFrame);
+        mainFrame.getQuizFrame().setCardAction(this::showQuizDetails);
     }
 
     /**
-     * Loads the flashcards button states from the JSON file and applies them to the buttons.
+     * Builds the full-text index of the flashcard Info texts on a background thread and lets the flashcard
+     * frame search it. Searches made before the index is complete simply find fewer cards.
      */
-    void loadFlashcardsButtonStates() {
-        JSONArray buttonStates = JsonUtils.readJsonFile(BUTTON_STATE_FILE.toString());
-        applyButtonStates(buttonStates, mainFrame.getFlashcardFrame().getButtons());
+    private void indexInfosInBackground() {
+        mainFrame.getFlashcardFrame().setRankedSearch(query -> infoIndex.search(query, MAX_INFO_RESULTS));
+        Thread indexer = new Thread(() -> {
+            long start = System.nanoTime();
+            databaseJson.indexInfos(infoIndex);
+            StartupData.logPhase("info index", start);
+        }, "info-index");
+        indexer.setDaemon(true);
+        indexer.start();
     }
 
     /**
-     * Loads the quiz button states from the JSON file and applies them to the buttons.
+     * Loads the flashcards progress from its store and applies it to the cards.
      */
-    void loadQuizButtonStates() {
-        JSONArray buttonStates = JsonUtils.readJsonFile(BUTTON_STATE_QUIZ_FILE.toString());
-        applyButtonStates(buttonStates, mainFrame.getQuizFrame().getButtons());
+    void loadFlashcardsButtonStates() {
+        flashcardProgress.load();
+        flashcardIndex.applyProgress(flashcardProgress, greenIcon, grayIcon);
+        mainFrame.getFlashcardFrame().repaint();
     }
 
     /**
-     * Applies the given button states to the provided buttons.
-     *
-     * @param buttonStates the JSONArray of button states.
-     * @param buttons      the list of buttons to update.
+     * Loads the quiz progress from its store and applies it to the cards.
      */
-    void applyButtonStates(JSONArray buttonStates, List<JButton> buttons) {
-        for (int i = 0; i < buttonStates.length(); i++) {
-            JSONObject buttonState = buttonStates.getJSONObject(i);
-            String buttonText = buttonState.getString("text");
-            String iconState = buttonState.getString("icon");
-            ImageIcon icon = iconState.equals("green") ? greenIcon : grayIcon;
-
-            buttons.stream()
-                    .filter(button -> button.getText().equals(buttonText))
-                    .findFirst()
-                    .ifPresent(button -> button.setIcon(icon));
-        }
+    void loadQuizButtonStates() {
+        quizProgress.load();
+        quizIndex.applyProgress(quizProgress, greenIcon, grayIcon);
+        mainFrame.getQuizFrame().repaint();
     }
 
     /**
-     * Adds listeners to the flashcard buttons.
+     * Applies the given button states to the provided cards.
+     * The cards are indexed by title first, so this takes time linear in the number of cards and states.
+     * Cards created by the controller are indexed as they are created, and their states are applied
+     * through that index instead.
+     *
+     * @param buttonStates the JSONArray of button states.
+     * @param cards        the list of cards to update.
+     * @param <T>          the type of the entries the cards stand for.
      */
-    private void addFlashcardListeners() {
-        for (JButton button : mainFrame.getFlashcardFrame().getButtons()) {
-            button.addActionListener(e -> showDetailFrame(button));
-        }
+    <T> void applyButtonStates(JSONArray buttonStates, List<Card<T>> cards) {
+        ButtonIndex.of(cards).applyStates(buttonStates, greenIcon, grayIcon);
     }
 
     /**
-     * Shows the detail frame for the selected flashcard button.
+     * Shows the detail frame for the selected flashcard card.
      *
-     * @param button the button that was clicked.
+     * @param card the card that was clicked.
      */
-    void showDetailFrame(JButton button) {
-        String buttonInfo = buttonInfoMap.get(button);
-        DetailFrame detailFrame = new DetailFrame("Details for " + button.getText(), buttonInfo, button);
+    void showDetailFrame(Card<Flashcard> card) {
+        DetailFrame detailFrame = new DetailFrame("Details for " + card.getTitle(), card.getItem().getInfo(), null);
         detailFrame.getDoneButton().addActionListener((ActionEvent s) -> {
-            button.setIcon(greenIcon);
-            saveButtonStates(buttonInfoMap, greenIcon, BUTTON_STATE_FILE.toString());
+            card.setIcon(greenIcon);
+            mainFrame.getFlashcardFrame().repaint();
+            recordProgress(card, flashcardIndex, flashcardProgress);
             detailFrame.dispose();
         });
     }
 
     /**
-     * Adds listeners to the quiz buttons.
-     */
-    private void addQuizListeners() {
-        for (JButton button : mainFrame.getQuizFrame().getButtons()) {
-            button.addActionListener(e -> showQuizDetails(button));
-        }
-    }
-
-    /**
-     * Shows the quiz details for the selected quiz button.
+     * Shows the quiz details for the selected quiz card.
      *
-     * @param button the button that was clicked.
+     * @param card the card that was clicked.
      */
-    void showQuizDetails(JButton button) {
-        String category = button.getText();
-        QuizDetails quizDetails = new QuizDetails(button);
+    void showQuizDetails(Card<String> card) {
+        String category = card.getItem();
+        QuizDetails quizDetails = new QuizDetails(null);
         List<QuizQuestion> questions = quizData.getQuestionsForCategory(category);
         questions.forEach(question -> quizDetails.createQuestionPanel(
                 question.getQuestionText(),
@@ -200,80 +216,84 @@ public class Controller {
                 question.getCorrectAnswerIndex()
         ));
 
+        QuizScorer scorer = new QuizScorer(questions);
         quizDetails.getSubmitButton().addActionListener((ActionEvent s) -> {
-            int correctCount = 0;
-            int incorrectCount = 0;
-            List<ButtonGroup> questionGroups = quizDetails.getQuestionGroups();
-            List<JRadioButton> correctAnswers = quizDetails.getCorrectAnswers();
-
-            for (int i = 0; i < questionGroups.size(); i++) {
-                ButtonGroup group = questionGroups.get(i);
-                JRadioButton correctButton = correctAnswers.get(i);
-
-                for (Enumeration<AbstractButton> buttons = group.getElements(); buttons.hasMoreElements(); ) {
-                    JRadioButton radioButton = (JRadioButton) buttons.nextElement();
-                    if (radioButton.isSelected()) {
-                        if (radioButton == correctButton) {
-                            correctCount++;
-                        } else {
-                            incorrectCount++;
-                        }
-                    }
-                }
-            }
-
-            JOptionPane.showMessageDialog(quizDetails, "Correct answers: " + correctCount + "\nIncorrect answers: " + incorrectCount);
-            if (correctCount == 5) {
-                button.setIcon(greenIcon);
-                saveButtonStates(quizButtonInfoMap, greenIcon, BUTTON_STATE_QUIZ_FILE.toString());
+            QuizResult result = scorer.score(quizDetails.getSelectedChoices());
+            JOptionPane.showMessageDialog(quizDetails, "Correct answers: " + result.getCorrectCount()
+                    + "\nIncorrect answers: " + result.getIncorrectCount());
+            if (result.isPassed()) {
+                card.setIcon(greenIcon);
+                mainFrame.getQuizFrame().repaint();
+                recordProgress(card, quizIndex, quizProgress);
                 quizDetails.dispose();
             }
         });
     }
 
     /**
-     * Creates a button for the flashcard frame with the given title and information.
+     * Creates a card for the flashcard frame for the given flashcard.
+     *
+     * @param flashcard the flashcard holding the title and information.
+     */
+    void createButtonForFlashcardFrame(Flashcard flashcard) {
+        mainFrame.getFlashcardFrame().addCards(List.of(newFlashcardCard(flashcard)));
+    }
+
+    /**
+     * Creates and indexes a card for a flashcard without adding it to the frame.
+     *
+     * @param flashcard the flashcard holding the title and information.
+     * @return the new card.
+     */
+    private Card<Flashcard> newFlashcardCard(Flashcard flashcard) {
+        Card<Flashcard> card = new Card<>(flashcard.getTitle(), grayIcon, flashcard);
+        flashcardIndex.add(card);
+        return card;
+    }
+
+    /**
+     * Creates a card for the flashcard frame with the given title and information.
+     * Compatibility overload for callers that still hold the JSON form of a flashcard.
      *
      * @param title the JSON object containing the title and information for the flashcard.
      */
     void createButtonForFlashcardFrame(JSONObject title) {
-        String titleText = title.getString("Title");
-        String infoText = title.optString("Info", "No additional information available.");
-        JButton button = new JButton(titleText);
-        button.setIcon(grayIcon);
-        mainFrame.getFlashcardFrame().addButton(button);
-        buttonInfoMap.put(button, infoText);
+        createButtonForFlashcardFrame(Flashcard.fromJson(title));
     }
 
     /**
-     * Creates a button for the quiz frame with the given button name.
+     * Creates a card for the quiz frame with the given category name.
      *
-     * @param buttonName the name of the button to create.
+     * @param buttonName the name of the category.
      */
     void createButtonForQuizFrame(String buttonName) {
-        JButton button = new JButton(buttonName);
-        button.setIcon(grayIcon);
-        mainFrame.getQuizFrame().addButton(button);
-        quizButtonInfoMap.put(button, buttonName);
+        mainFrame.getQuizFrame().addCards(List.of(newQuizCard(buttonName)));
+    }
+
+    /**
+     * Creates and indexes a card for a quiz category without adding it to the frame.
+     *
+     * @param category the name of the category.
+     * @return the new card.
+     */
+    private Card<String> newQuizCard(String category) {
+        Card<String> card = new Card<>(category, grayIcon, category);
+        quizIndex.add(card);
+        return card;
     }
 
     /**
-     * Saves the button states to the specified file.
+     * Records that a card was completed in its progress store and saves the store on the write-behind
+     * thread, which appends the change to the store's journal. Saves requested before the next flush are
+     * coalesced into one.
      *
-     * @param buttonInfoMap the map of buttons and their information.
-     * @param greenIcon     the green icon to represent the completed state.
-     * @param filePath      the file path to save the button states to.
+     * @param card  the completed card.
+     * @param index the index of the cards of the card's frame.
+     * @param store the progress store of the card's frame.
+     * @param <T>   the type of the entries the cards stand for.
      */
-    void saveButtonStates(Map<JButton, String> buttonInfoMap, ImageIcon greenIcon, String filePath) {
-        JSONArray buttonStates = new JSONArray();
-        for (JButton button : buttonInfoMap.keySet()) {
-            JSONObject buttonState = new JSONObject();
-            buttonState.put("text", button.getText());
-            Icon icon = button.getIcon();
-            String iconState = (icon != null && icon.equals(greenIcon)) ? "green" : "gray";
-            buttonState.put("icon", iconState);
-            buttonStates.put(buttonState);
-        }
-        JsonUtils.writeJsonFile(filePath, buttonStates);
+    <T> void recordProgress(Card<T> card, ButtonIndex<T> index, ProgressStore store) {
+        store.setDone(store.id(card.getTitle(), index.occurrence(card)), true);
+        progressWriter.submit(store.getBasePath(), store::save);
     }
 }
@@ -0,0 +1,379 @@
+package org.example.controller;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.model.JsonStreamReader;
+import org.example.model.JsonStreamWriter;
+import org.example.model.MultiUserProgressStore;
+import org.example.model.QuizData;
+import org.example.model.QuizQuestion;
+import org.example.model.QuizResult;
+import org.example.model.QuizScorer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The QuizServer class serves one question bank to many clients over HTTP, for running a quiz for a whole
+ * classroom from one machine. It offers four endpoints:
+ * <ul>
+ *     <li>{@code GET /categories}: the category names, in order;</li>
+ *     <li>{@code GET /questions?category=<name>}: the questions of a category with their choices, without
+ *     the correct answers;</li>
+ *     <li>{@code POST /answers?category=<name>[&user=<name>]}: grades an attempt given as a JSON array of
+ *     selected choice indexes, -1 for an unanswered question, and returns the counts and whether it passed;
+ *     a passed attempt of a named user is recorded;</li>
+ *     <li>{@code GET /progress?user=<name>}: the categories the user has passed.</li>
+ * </ul>
+ * User names longer than {@link MultiUserProgressStore#MAX_USER_BYTES} UTF-8 bytes are rejected.
+ * The quiz data is read once when the server is created: every response listing categories or questions is
+ * serialized up front and kept as bytes, so serving it only copies bytes, and the handlers share nothing
+ * mutable. Requests run on virtual threads where the runtime has them, and on a fixed pool otherwise.
+ *
+ * @author Mounir Darwich
+ */
+public class QuizServer {
+    /** The port used when none is given. */
+    public static final int DEFAULT_PORT = 8080;
+    static final int MAX_ANSWERS_BYTES = 64 * 1024;
+    static final String PROGRESS_DIRECTORY = "server_progress";
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] categoriesJson;
+    private final Map<String, byte[]> questionsJson;
+    private final Map<String, QuizScorer> scorers;
+    private final List<String> categories;
+    private final Map<String, Integer> categoryIds;
+    private final MultiUserProgressStore progress;
+
+    /**
+     * Constructs a QuizServer over the given quiz data that records no progress, bound to a port but not yet started.
+     *
+     * @param quizData the question bank to serve.
+     * @param port     the port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be bound or the responses cannot be serialized.
+     */
+    public QuizServer(QuizData quizData, int port) throws IOException {
+        this(quizData, port, null);
+    }
+
+    /**
+     * Constructs a QuizServer over the given quiz data, bound to a port but not yet started.
+     * Categories are identified in the progress store by ids from its persisted table of item names, so
+     * progress stays with its category when categories are added or reordered.
+     *
+     * @param quizData the question bank to serve.
+     * @param port     the port to listen on, or 0 for any free port.
+     * @param progress the store recording the categories each user has passed, or null to record nothing.
+     * @throws IOException if the port cannot be bound or the responses cannot be serialized.
+     */
+    public QuizServer(QuizData quizData, int port, MultiUserProgressStore progress) throws IOException {
+        this.categories = List.copyOf(quizData.getOrderedCategoryKeys());
+        this.progress = progress;
+        Map<String, byte[]> questions = new HashMap<>();
+        Map<String, QuizScorer> categoryScorers = new HashMap<>();
+        Map<String, Integer> ids = new HashMap<>();
+        if (progress != null) {
+            int[] itemIds = progress.itemIds(categories);
+            for (int i = 0; i < itemIds.length; i++) {
+                ids.put(categories.get(i), itemIds[i]);
+            }
+        }
+        for (String category : categories) {
+            List<QuizQuestion> categoryQuestions = quizData.getQuestionsForCategory(category);
+            questions.put(category, serializeQuestions(category, categoryQuestions));
+            categoryScorers.put(category, new QuizScorer(categoryQuestions));
+        }
+        this.categoriesJson = serialize(writer -> {
+            writer.beginArray();
+            for (String category : categories) {
+                writer.value(category);
+            }
+            writer.endArray();
+        });
+        this.questionsJson = Map.copyOf(questions);
+        this.scorers = Map.copyOf(categoryScorers);
+        this.categoryIds = Map.copyOf(ids);
+
+        this.executor = newRequestExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(executor);
+        server.createContext("/categories", exchange -> handle(exchange, "GET", () -> categoriesJson));
+        server.createContext("/questions", exchange -> handle(exchange, "GET",
+                () -> questionsJson.get(parameter(exchange, "category"))));
+        server.createContext("/answers", exchange -> handle(exchange, "POST", () -> grade(exchange)));
+        server.createContext("/progress", exchange -> handle(exchange, "GET", () -> progress(exchange)));
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server, giving requests in progress up to the given delay to finish.
+     *
+     * @param delaySeconds the maximum time to wait for requests in progress, in seconds.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (progress != null) {
+            progress.close();
+        }
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the bound port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Loads the default question bank and serves it until the process is stopped.
+     *
+     * @param port the port to listen on.
+     * @throws IOException if the server cannot be started.
+     */
+    public static void run(int port) throws IOException {
+        long start = System.nanoTime();
+        QuizServer quizServer = new QuizServer(new QuizData(), port, new MultiUserProgressStore(PROGRESS_DIRECTORY));
+        quizServer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> quizServer.stop(1)));
+        StartupData.logPhase("quiz server", start);
+        StartupData.debug("Serving " + quizServer.scorers.size() + " quiz categories on port " + quizServer.getPort());
+    }
+
+    /**
+     * Answers a request with a prepared JSON body.
+     *
+     * @param exchange the request.
+     * @param method   the only method the endpoint accepts.
+     * @param body     produces the body, or null if the category does not exist.
+     * @throws IOException if the response cannot be written.
+     */
+    private static void handle(HttpExchange exchange, String method, Body body) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals(method)) {
+                exchange.getResponseHeaders().set("Allow", method);
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] bytes;
+            try {
+                bytes = body.get();
+            } catch (IOException e) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            if (bytes == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Grades the attempt posted to the answers endpoint.
+     *
+     * @param exchange the request.
+     * @return the result as JSON, or null if the category does not exist.
+     * @throws IOException if the request body is not a JSON array of integers or is too large, or the user
+     *                     name is too long.
+     */
+    private byte[] grade(HttpExchange exchange) throws IOException {
+        String category = parameter(exchange, "category");
+        QuizScorer scorer = scorers.get(category);
+        if (scorer == null) {
+            return null;
+        }
+        int[] selected = readSelection(exchange.getRequestBody(), scorer.getQuestionCount());
+        String user = user(exchange);
+        QuizResult result = scorer.score(selected);
+        if (result.isPassed() && user != null && progress != null) {
+            progress.complete(user, categoryIds.get(category));
+        }
+        return serialize(writer -> writer.beginObject()
+                .name("correct").value(result.getCorrectCount())
+                .name("incorrect").value(result.getIncorrectCount())
+                .name("unanswered").value(result.getUnansweredCount())
+                .name("passed").value(result.isPassed())
+                .endObject());
+    }
+
+    /**
+     * Lists the categories a user has passed.
+     *
+     * @param exchange the request.
+     * @return the category names as JSON, or null if no progress is recorded.
+     * @throws IOException if no user is named, the user name is too long or the response cannot be serialized.
+     */
+    private byte[] progress(HttpExchange exchange) throws IOException {
+        if (progress == null) {
+            return null;
+        }
+        String user = user(exchange);
+        if (user == null) {
+            throw new IOException("No user");
+        }
+        return serialize(writer -> {
+            writer.beginArray();
+            for (String category : categories) {
+                if (progress.isDone(user, categoryIds.get(category))) {
+                    writer.value(category);
+                }
+            }
+            writer.endArray();
+        });
+    }
+
+    /**
+     * Gets the user named by a request.
+     *
+     * @param exchange the request.
+     * @return the user name, or null if there is none.
+     * @throws IOException if the name is longer than the progress store accepts.
+     */
+    static String user(HttpExchange exchange) throws IOException {
+        String user = parameter(exchange, "user");
+        if (user != null && user.getBytes(StandardCharsets.UTF_8).length > MultiUserProgressStore.MAX_USER_BYTES) {
+            throw new IOException("User name too long");
+        }
+        return user;
+    }
+
+    /**
+     * Reads the selected choice indexes of an attempt.
+     *
+     * @param body          the request body.
+     * @param questionCount the number of questions, beyond which selections are ignored.
+     * @return the selected choice index for each question.
+     * @throws IOException if the body is not a JSON array of integers or is too large.
+     */
+    static int[] readSelection(InputStream body, int questionCount) throws IOException {
+        byte[] bytes = body.readNBytes(MAX_ANSWERS_BYTES + 1);
+        if (bytes.length > MAX_ANSWERS_BYTES) {
+            throw new IOException("Answers too large");
+        }
+        int[] selected = new int[questionCount];
+        Arrays.fill(selected, QuizScorer.UNANSWERED);
+        JsonStreamReader reader = new JsonStreamReader(new ByteArrayInputStream(bytes));
+        reader.beginArray();
+        for (int i = 0; reader.hasNext(); i++) {
+            int choice = reader.nextInt();
+            if (i < questionCount) {
+                selected[i] = choice;
+            }
+        }
+        reader.endArray();
+        return selected;
+    }
+
+    /**
+     * Gets a parameter of the query of a request.
+     *
+     * @param exchange the request.
+     * @param name     the name of the parameter.
+     * @return the decoded value of the first parameter with that name, or null if there is none.
+     */
+    static String parameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        String prefix = name + "=";
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(prefix)) {
+                return URLDecoder.decode(parameter.substring(prefix.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Serializes the questions of a category for clients: text and choices, without the correct answers.
+     *
+     * @param category  the category name.
+     * @param questions the questions of the category.
+     * @return the UTF-8 JSON bytes.
+     * @throws IOException if the questions cannot be serialized.
+     */
+    private static byte[] serializeQuestions(String category, List<QuizQuestion> questions) throws IOException {
+        return serialize(writer -> {
+            writer.beginObject().name("category").value(category).name("questions").beginArray();
+            for (QuizQuestion question : questions) {
+                writer.beginObject().name("questionText").value(question.getQuestionText())
+                        .name("choices").beginArray();
+                for (String choice : question.getChoices()) {
+                    writer.value(choice);
+                }
+                writer.endArray().endObject();
+            }
+            writer.endArray().endObject();
+        });
+    }
+
+    private static byte[] serialize(JsonStreamWriter.Content content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = new JsonStreamWriter(out)) {
+            content.writeTo(writer);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Creates the executor running the request handlers: one virtual thread per request on runtimes that
+     * have them, and a fixed pool of platform threads otherwise.
+     *
+     * @return the executor.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadCount = new AtomicInteger();
+            int threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 8);
+            return Executors.newFixedThreadPool(threads,
+                    runnable -> new Thread(runnable, "quiz-server-" + threadCount.incrementAndGet()));
+        }
+    }
+
+    /**
+     * Produces the body of a response.
+     */
+    @FunctionalInterface
+    private interface Body {
+        byte[] get() throws IOException;
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.controller;
+
+import org.example.model.DatabaseJson;
+import org.example.model.ProgressJournal;
+import org.example.model.ProgressStore;
+import org.example.model.QuizData;
+
+import javax.swing.ImageIcon;
+import java.awt.Image;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The StartupData class loads everything the Controller needs before the UI can be built: the icons,
+ * the flashcards, the quiz data and the saved progress. Progress saved in the older JSON format, with its
+ * journal, is migrated into a progress store the first time it is loaded.
+ * These tasks are independent, so they run in parallel on a small worker pool and never on the
+ * Event Dispatch Thread. With the {@code flashcards.debug} system property set, each phase logs how long it took.
+ *
+ * @author Mounir Darwich
+ */
+class StartupData {
+    private static final int WORKER_THREADS = 4;
+    /** True when the {@code flashcards.debug} system property is set, to log startup timings and migrations. */
+    static final boolean DEBUG = Boolean.getBoolean("flashcards.debug");
+
+    final ImageIcon greenIcon;
+    final ImageIcon grayIcon;
+    final DatabaseJson databaseJson;
+    final QuizData quizData;
+    final ProgressStore flashcardProgress;
+    final ProgressStore quizProgress;
+
+    private StartupData(ImageIcon greenIcon, ImageIcon grayIcon, DatabaseJson databaseJson, QuizData quizData,
+                        ProgressStore flashcardProgress, ProgressStore quizProgress) {
+        this.greenIcon = greenIcon;
+        this.grayIcon = grayIcon;
+        this.databaseJson = databaseJson;
+        this.quizData = quizData;
+        this.flashcardProgress = flashcardProgress;
+        this.quizProgress = quizProgress;
+    }
+
+    /**
+     * Starts loading the startup data on a worker pool.
+     * The pool threads are not daemons, so the JVM stays alive until the data has been handed over.
+     *
+     * @param flashcardStateFile the JSON file of the saved flashcard button states; the progress store
+     *                           lives next to it under the same name without the extension.
+     * @param quizStateFile      the JSON file of the saved quiz button states.
+     * @return a future completed with the loaded data.
+     */
+    static CompletableFuture<StartupData> loadAsync(String flashcardStateFile, String quizStateFile) {
+        long start = System.nanoTime();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(WORKER_THREADS,
+                runnable -> new Thread(runnable, "startup-" + threadCount.incrementAndGet()));
+        try {
+            CompletableFuture<ImageIcon> greenIcon = phase("green icon", () -> loadScaledIcon("checkGrean.png"), pool);
+            CompletableFuture<ImageIcon> grayIcon = phase("gray icon", () -> loadScaledIcon("checkGray.png"), pool);
+            CompletableFuture<DatabaseJson> flashcards = phase("flashcards", DatabaseJson::new, pool);
+            CompletableFuture<QuizData> quizData = phase("quiz data", () -> new QuizData(true), pool);
+            CompletableFuture<ProgressStore> flashcardProgress = phase("flashcard progress",
+                    () -> loadProgress(flashcardStateFile), pool);
+            CompletableFuture<ProgressStore> quizProgress = phase("quiz progress",
+                    () -> loadProgress(quizStateFile), pool);
+            return CompletableFuture.allOf(greenIcon, grayIcon, flashcards, quizData, flashcardProgress, quizProgress)
+                    .thenApply(ignored -> {
+                        logPhase("data loading", start);
+                        return new StartupData(greenIcon.join(), grayIcon.join(), flashcards.join(),
+                                quizData.join(), flashcardProgress.join(), quizProgress.join());
+                    });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Loads the startup data in parallel and waits for it.
+     *
+     * @param flashcardStateFile the file holding the saved flashcard button states.
+     * @param quizStateFile      the file holding the saved quiz button states.
+     * @return the loaded data.
+     */
+    static StartupData load(String flashcardStateFile, String quizStateFile) {
+        try {
+            return loadAsync(flashcardStateFile, quizStateFile).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a scaled icon from the given resource.
+     *
+     * @param resourceName the resource name of the image file.
+     * @return the scaled ImageIcon.
+     */
+    static ImageIcon loadScaledIcon(String resourceName) {
+        try (InputStream is = StartupData.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (is == null) {
+                throw new IOException("Resource not found: " + resourceName);
+            }
+            byte[] imageBytes = is.readAllBytes();
+            ImageIcon icon = new ImageIcon(imageBytes);
+            Image image = icon.getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH);
+            return new ImageIcon(image);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load icon: " + resourceName, e);
+        }
+    }
+
+    /**
+     * Logs how long a startup phase took, in debug mode only.
+     *
+     * @param phase     the name of the phase.
+     * @param startNanos the System.nanoTime() value when the phase started.
+     */
+    static void logPhase(String phase, long startNanos) {
+        debug("Startup: " + phase + " took " + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Prints a diagnostic message, in debug mode only.
+     *
+     * @param message the message.
+     */
+    static void debug(String message) {
+        if (DEBUG) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Loads the progress store kept next to a JSON state file, migrating the JSON states and their journal
+     * into it if the store has never been saved. The JSON files are left as they are.
+     *
+     * @param stateFile the JSON state file.
+     * @return the loaded progress store.
+     */
+    static ProgressStore loadProgress(String stateFile) {
+        ProgressStore store = new ProgressStore(progressBasePath(stateFile));
+        if (store.exists()) {
+            store.load();
+            return store;
+        }
+        ProgressJournal journal = new ProgressJournal(stateFile);
+        if (Files.exists(Paths.get(stateFile)) || Files.exists(Paths.get(stateFile + ".journal"))) {
+            int completed = store.migrate(journal.load());
+            debug("Migrated " + completed + " completed items from " + stateFile);
+        }
+        store.save();
+        return store;
+    }
+
+    /**
+     * Gets the base path of the progress store belonging to a JSON state file.
+     *
+     * @param stateFile the JSON state file.
+     * @return the state file path without its ".json" extension.
+     */
+    static String progressBasePath(String stateFile) {
+        return stateFile.endsWith(".json") ? stateFile.substring(0, stateFile.length() - ".json".length()) : stateFile;
+    }
+
+    private static <T> CompletableFuture<T> phase(String name, Supplier<T> task, ExecutorService pool) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            T result = task.get();
+            logPhase(name, start);
+            return result;
+        }, pool);
+    }
+}
@@ -2,7 +2,10 @@
  * This package contains the controller components of the application.
  *
  * It includes the following classes:
+ * - ButtonIndex: Maps card titles to their cards so saved progress is applied in linear time.
  * - Controller: Orchestrates the interaction between the model and the view in the application.
+ * - QuizServer: Serves the question bank and grades answers over HTTP for many concurrent clients.
+ * - StartupData: Loads the icons, data files and saved progress in parallel before the UI is built.
  *
  * The Controller class is responsible for:
  * - Managing the loading and saving of button states.
@@ -0,0 +1,101 @@
+package org.example.model;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * The BoundedCache class is a least-recently-used cache limited both by the number of entries
+ * and by the approximate number of bytes the cached values retain.
+ * All methods are synchronized, so one instance can be shared between threads.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of cached values.
+ */
+public class BoundedCache<K, V> {
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, Long> weights = new HashMap<>();
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new BoundedCache with the given limits.
+     *
+     * @param maxEntries the maximum number of entries kept.
+     * @param maxWeight  the maximum total weight, in approximate bytes, of the entries kept.
+     * @param weigher    the function estimating the weight of a value.
+     */
+    public BoundedCache(int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+        if (maxEntries < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("Cache limits must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Retrieves a cached value and marks it as most recently used.
+     *
+     * @param key the key to look up.
+     * @return the cached value, or null if it is not cached.
+     */
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Adds a value to the cache and evicts the least recently used entries until the limits hold again.
+     * The value just added is always kept, even if it alone exceeds the weight limit.
+     *
+     * @param key   the key of the value.
+     * @param value the value to cache.
+     */
+    public synchronized void put(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        V previous = entries.put(key, value);
+        Long previousWeight = weights.put(key, valueWeight);
+        if (previous != null && previousWeight != null) {
+            weight -= previousWeight;
+        }
+        weight += valueWeight;
+        Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && entries.size() > 1) {
+            K eldestKey = eldest.next().getKey();
+            eldest.remove();
+            weight -= weights.remove(eldestKey);
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes every entry from the cache. The counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weights.clear();
+        weight = 0;
+    }
+
+    /**
+     * Takes a snapshot of the cache counters.
+     *
+     * @return the current statistics.
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), weight);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.model;
+
+/**
+ * The CacheStats class is an immutable snapshot of the counters of a BoundedCache.
+ */
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final long weight;
+
+    /**
+     * Constructs a new CacheStats snapshot.
+     *
+     * @param hitCount      the number of lookups that found a cached value.
+     * @param missCount     the number of lookups that found nothing.
+     * @param evictionCount the number of entries evicted to respect the limits.
+     * @param size          the number of entries currently cached.
+     * @param weight        the approximate number of bytes currently retained.
+     */
+    public CacheStats(long hitCount, long missCount, long evictionCount, int size, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                + ", size=" + size + ", weight=" + weight + "}";
+    }
+}
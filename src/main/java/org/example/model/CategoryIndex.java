@@ -0,0 +1,195 @@
+package org.example.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The CategoryIndex class records where each category object starts and ends in a questions file,
+ * so a single category can be parsed later without reading the rest of the file.
+ * The index can be saved to a sidecar file that is only trusted while the source file keeps the same
+ * modification time and size.
+ */
+class CategoryIndex {
+    private static final int MAGIC = 0x51494458; // "QIDX"
+    private static final int VERSION = 1;
+
+    private final List<String> names;
+    private final List<String> rawNames;
+    private final Map<String, Integer> positions;
+    private final long[] starts;
+    private final long[] ends;
+
+    private CategoryIndex(List<String> names, long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+        this.rawNames = names;
+        // A repeated category keeps its first position but the questions of its last occurrence,
+        // the same way the eager loader fills its LinkedHashMap.
+        this.positions = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            positions.put(names.get(i), i);
+        }
+        this.names = Collections.unmodifiableList(new ArrayList<>(positions.keySet()));
+    }
+
+    /**
+     * Scans a questions file and records the byte range of every category object.
+     * Question arrays are skipped without being decoded.
+     *
+     * @param inputStream the stream of the questions file.
+     * @return the index of the file.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    static CategoryIndex scan(InputStream inputStream) throws IOException {
+        List<String> names = new ArrayList<>();
+        long[] starts = new long[16];
+        long[] ends = new long[16];
+        JsonStreamReader reader = new JsonStreamReader(inputStream);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            int i = names.size();
+            if (i == starts.length) {
+                starts = Arrays.copyOf(starts, i * 2);
+                ends = Arrays.copyOf(ends, i * 2);
+            }
+            starts[i] = reader.position();
+            String category = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("category")) {
+                    category = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (category == null) {
+                throw new MalformedJsonException("Category object without a \"category\" name");
+            }
+            ends[i] = reader.position();
+            names.add(category);
+        }
+        reader.endArray();
+        return new CategoryIndex(names, Arrays.copyOf(starts, names.size()), Arrays.copyOf(ends, names.size()));
+    }
+
+    /**
+     * Loads an index from a sidecar file if it was written for the given source stamp.
+     *
+     * @param sidecar the sidecar file.
+     * @param stamp   the modification time and size of the source file.
+     * @return the index, or null if the sidecar is missing, unreadable or stale.
+     */
+    static CategoryIndex load(Path sidecar, long[] stamp) {
+        if (!Files.isRegularFile(sidecar)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sidecar)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION
+                    || in.readLong() != stamp[0] || in.readLong() != stamp[1]) {
+                return null;
+            }
+            int count = in.readInt();
+            List<String> names = new ArrayList<>(count);
+            long[] starts = new long[count];
+            long[] ends = new long[count];
+            for (int i = 0; i < count; i++) {
+                names.add(in.readUTF());
+                starts[i] = in.readLong();
+                ends[i] = in.readLong();
+            }
+            return new CategoryIndex(names, starts, ends);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable category index: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves the index to a sidecar file together with the stamp of the source file.
+     * The index is written to a temporary sibling first and moved into place, so readers never see half a file.
+     *
+     * @param sidecar the sidecar file.
+     * @param stamp   the modification time and size of the source file.
+     */
+    void save(Path sidecar, long[] stamp) {
+        try {
+            Path temp = Files.createTempFile(sidecar.toAbsolutePath().getParent(), sidecar.getFileName().toString(),
+                    ".tmp");
+            try {
+                write(temp, stamp);
+                JsonUtils.moveIntoPlace(temp, sidecar);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving category index: " + e.getMessage());
+        }
+    }
+
+    private void write(Path file, long[] stamp) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(stamp[0]);
+            out.writeLong(stamp[1]);
+            out.writeInt(rawNames.size());
+            for (int i = 0; i < rawNames.size(); i++) {
+                out.writeUTF(rawNames.get(i));
+                out.writeLong(starts[i]);
+                out.writeLong(ends[i]);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the category names in file order.
+     *
+     * @return an unmodifiable list of category names.
+     */
+    List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Retrieves the position of a category in the file.
+     *
+     * @param category the category name.
+     * @return the position of the last category object with that name, or -1 if it is not indexed.
+     */
+    int indexOf(String category) {
+        return positions.getOrDefault(category, -1);
+    }
+
+    /**
+     * Retrieves the byte offset where a category object starts.
+     *
+     * @param i the position of the category.
+     * @return the start offset.
+     */
+    long getStart(int i) {
+        return starts[i];
+    }
+
+    /**
+     * Retrieves the byte offset just past the end of a category object.
+     *
+     * @param i the position of the category.
+     * @return the end offset.
+     */
+    long getEnd(int i) {
+        return ends[i];
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The ChoicePool class stores every distinct answer choice once and hands out small integer ids for them.
+ * Questions built from the same pool keep only an int array of ids, and their choice lists are read-only
+ * views over the pool instead of copies.
+ */
+public class ChoicePool {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile String[] strings = new String[64];
+    private int size;
+
+    /**
+     * Returns the id of a choice, adding it to the pool if it is not there yet.
+     *
+     * @param choice the choice text.
+     * @return the id of the choice.
+     */
+    public synchronized int intern(String choice) {
+        Integer id = ids.get(choice);
+        if (id != null) {
+            return id;
+        }
+        String[] current = strings;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = choice;
+        strings = current;
+        ids.put(choice, size);
+        return size++;
+    }
+
+    /**
+     * Retrieves the choice text for an id.
+     *
+     * @param id the id returned by {@link #intern(String)}.
+     * @return the choice text.
+     */
+    public String get(int id) {
+        return strings[id];
+    }
+
+    /**
+     * Retrieves the number of distinct choices in the pool.
+     *
+     * @return the number of distinct choices.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Creates a read-only list view of the choices with the given ids.
+     * The array is used as is, so it must not be modified afterwards.
+     *
+     * @param choiceIds the ids of the choices, in display order.
+     * @return a list view backed by the pool.
+     */
+    public List<String> view(int[] choiceIds) {
+        return new ChoiceList(this, choiceIds);
+    }
+
+    /**
+     * A read-only list of choices backed by a pool and an array of ids.
+     */
+    static final class ChoiceList extends AbstractList<String> implements RandomAccess {
+        private final ChoicePool pool;
+        private final int[] choiceIds;
+
+        ChoiceList(ChoicePool pool, int[] choiceIds) {
+            this.pool = pool;
+            this.choiceIds = choiceIds;
+        }
+
+        @Override
+        public String get(int index) {
+            return pool.get(choiceIds[index]);
+        }
+
+        @Override
+        public int size() {
+            return choiceIds.length;
+        }
+    }
+}
@@ -0,0 +1,591 @@
+package org.example.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The DataSnapshot class reads and writes the binary snapshot format of the JSON data files.
+ * A snapshot holds a string table, an offset table and fixed-width records, and is opened with
+ * {@link FileChannel#map} so fields are read straight from the mapped file without building any JSON tree.
+ * A snapshot remembers the modification time and size of the JSON file it was compiled from and is
+ * ignored once that file changes. Every offset, count and string id is checked against the file size when the
+ * snapshot is opened, so a damaged snapshot is rebuilt instead of failing on a later read.
+ *
+ * <p>Layout (big-endian): a header with the magic number, version, kind, source stamp and the offsets of
+ * the string table and the record section, followed by the string offset table, the UTF-8 string bytes
+ * and the records.</p>
+ */
+public class DataSnapshot {
+    /** Snapshot kind for flashcardsInfo.json: records of (title id, info id). */
+    public static final int FLASHCARDS = 1;
+    /** Snapshot kind for questions.json: category, question and choice records. */
+    public static final int QUESTIONS = 2;
+    static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private static final int MAGIC = 0x494A534E; // "IJSN"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 * 3 + 8 * 2 + 4 * 2;
+    private static final int CARD_RECORD = 8;
+    private static final int CATEGORY_RECORD = 12;
+    private static final int QUESTION_RECORD = 16;
+
+    private final ByteBuffer buffer;
+    private final int kind;
+    private final int stringCount;
+    private final int stringOffsets;
+    private final int stringData;
+    private final int records;
+
+    private DataSnapshot(ByteBuffer buffer, int kind, int stringTable, int records) {
+        this.buffer = buffer;
+        this.kind = kind;
+        this.stringCount = buffer.getInt(stringTable);
+        this.stringOffsets = stringTable + 4;
+        this.stringData = stringOffsets + 4 * (stringCount + 1);
+        this.records = records;
+    }
+
+    /**
+     * Retrieves the path of the snapshot file for a JSON data file.
+     * Snapshots live next to the JSON file when it is on disk, and in the cache directory when it is packaged.
+     *
+     * @param jsonPath the path of the JSON data file.
+     * @return the snapshot path.
+     */
+    public static Path snapshotPath(String jsonPath) {
+        return ResourceLocator.derivedPath(jsonPath, SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Opens the snapshot for a JSON data file if it exists and was compiled from the current version of it.
+     *
+     * @param jsonPath the path of the JSON data file, resolved like the loaders resolve it.
+     * @param kind     the expected snapshot kind.
+     * @return the mapped snapshot, or null if it is missing, stale or unreadable.
+     */
+    static DataSnapshot openFor(String jsonPath, int kind) {
+        Path path = snapshotPath(jsonPath);
+        URL source = ResourceLocator.locate(jsonPath);
+        if (source == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            return open(path, kind, ResourceLocator.stamp(source));
+        } catch (IOException e) {
+            System.err.println("Rebuilding unreadable snapshot " + path + ": " + e.getMessage());
+        }
+        try {
+            return open(compile(jsonPath, kind), kind, null);
+        } catch (IOException e) {
+            System.err.println("Error rebuilding snapshot " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Maps a snapshot file and checks its header and structure.
+     *
+     * @param path  the snapshot file.
+     * @param kind  the expected snapshot kind.
+     * @param stamp the modification time and size of the source file, or null to skip the staleness check.
+     * @return the mapped snapshot, or null if it has the wrong kind or is stale.
+     * @throws IOException if the file cannot be mapped, or is truncated or malformed.
+     */
+    static DataSnapshot open(Path path, int kind, long[] stamp) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE || channel.size() < HEADER_SIZE) {
+                throw new IOException("Unsupported snapshot size " + channel.size());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a snapshot file");
+            }
+            if (buffer.getInt(8) != kind) {
+                return null;
+            }
+            if (stamp != null && (buffer.getLong(12) != stamp[0] || buffer.getLong(20) != stamp[1])) {
+                return null;
+            }
+            int stringTable = buffer.getInt(28);
+            int records = buffer.getInt(32);
+            checkRange(stringTable, HEADER_SIZE, records - 4L, "string table");
+            checkRange(records, stringTable + 4L, buffer.limit() - 4L, "record section");
+            DataSnapshot snapshot = new DataSnapshot(buffer, kind, stringTable, records);
+            snapshot.validate();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Checks that every offset, count and string id of the snapshot lies inside the file, so the accessors
+     * cannot read out of range.
+     *
+     * @throws IOException if the snapshot is truncated or malformed.
+     */
+    private void validate() throws IOException {
+        checkRange(stringCount, 0, (records - stringOffsets) / 4L - 1, "string count");
+        int end = 0;
+        for (int id = 0; id <= stringCount; id++) {
+            int offset = buffer.getInt(stringOffsets + 4 * id);
+            checkRange(offset, id == 0 ? 0 : end, records - (long) stringData, "string offset");
+            end = offset;
+        }
+        if (stringData + end != records) {
+            throw new IOException("String data ends at " + (stringData + end) + ", not at " + records);
+        }
+
+        long position = records;
+        if (kind == FLASHCARDS) {
+            int cards = readCount(position, CARD_RECORD);
+            position += 4;
+            for (int i = 0; i < 2 * cards; i++, position += 4) {
+                checkString(buffer.getInt((int) position));
+            }
+        } else if (kind == QUESTIONS) {
+            int categories = readCount(position, CATEGORY_RECORD);
+            long questionTable = position + 4 + (long) CATEGORY_RECORD * categories;
+            int questions = readCount(questionTable, QUESTION_RECORD);
+            long choiceTable = questionTable + 4 + (long) QUESTION_RECORD * questions;
+            int choices = readCount(choiceTable, 4);
+            for (int c = 0; c < categories; c++) {
+                int record = categoryRecord(c);
+                checkString(buffer.getInt(record));
+                checkSlice(buffer.getInt(record + 4), buffer.getInt(record + 8), questions, "question");
+            }
+            for (int q = 0; q < questions; q++) {
+                int question = (int) questionTable + 4 + QUESTION_RECORD * q;
+                checkString(buffer.getInt(question));
+                checkSlice(buffer.getInt(question + 8), buffer.getInt(question + 12), choices, "choice");
+            }
+            for (int c = 0; c < choices; c++) {
+                checkString(buffer.getInt((int) choiceTable + 4 + 4 * c));
+            }
+            position = choiceTable + 4 + 4L * choices;
+        }
+        if (position != buffer.limit()) {
+            throw new IOException("Records end at " + position + ", not at the file size " + buffer.limit());
+        }
+    }
+
+    /**
+     * Reads the record count at the start of a table and checks that its records fit in the file.
+     *
+     * @param position   the position of the count.
+     * @param recordSize the size of one record in bytes.
+     * @return the number of records.
+     * @throws IOException if the count is negative or the records run past the end of the file.
+     */
+    private int readCount(long position, int recordSize) throws IOException {
+        checkRange(position, records, buffer.limit() - 4L, "table");
+        int count = buffer.getInt((int) position);
+        checkRange(count, 0, (buffer.limit() - position - 4) / recordSize, "record count");
+        return count;
+    }
+
+    private void checkString(int id) throws IOException {
+        checkRange(id, 0, stringCount - 1L, "string id");
+    }
+
+    private static void checkSlice(int first, int count, int size, String name) throws IOException {
+        checkRange(first, 0, size, "first " + name);
+        checkRange(count, 0, size - (long) first, name + " count");
+    }
+
+    private static void checkRange(long value, long min, long max, String name) throws IOException {
+        if (value < min || value > max) {
+            throw new IOException("Snapshot " + name + " " + value + " is outside " + min + ".." + max);
+        }
+    }
+
+    /**
+     * Retrieves a string from the string table.
+     *
+     * @param id the string id.
+     * @return the decoded string.
+     */
+    String string(int id) {
+        int start = buffer.getInt(stringOffsets + 4 * id);
+        int end = buffer.getInt(stringOffsets + 4 * (id + 1));
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringData + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Retrieves the number of flashcards in a flashcards snapshot.
+     *
+     * @return the number of flashcards.
+     */
+    int cardCount() {
+        checkKind(FLASHCARDS);
+        return buffer.getInt(records);
+    }
+
+    /**
+     * Retrieves the title of a flashcard.
+     *
+     * @param card the position of the flashcard.
+     * @return the title.
+     */
+    String cardTitle(int card) {
+        return string(buffer.getInt(records + 4 + CARD_RECORD * card));
+    }
+
+    /**
+     * Retrieves the string id of the Info text of a flashcard.
+     *
+     * @param card the position of the flashcard.
+     * @return the string id of the Info text.
+     */
+    int cardInfoId(int card) {
+        return buffer.getInt(records + 4 + CARD_RECORD * card + 4);
+    }
+
+    /**
+     * Retrieves the number of categories in a questions snapshot.
+     *
+     * @return the number of categories.
+     */
+    int categoryCount() {
+        checkKind(QUESTIONS);
+        return buffer.getInt(records);
+    }
+
+    /**
+     * Retrieves the name of a category.
+     *
+     * @param category the position of the category.
+     * @return the category name.
+     */
+    String categoryName(int category) {
+        return string(buffer.getInt(categoryRecord(category)));
+    }
+
+    /**
+     * Decodes the questions of one category. Choice texts are interned into the given pool.
+     *
+     * @param category   the position of the category.
+     * @param choicePool the pool the choices are added to.
+     * @return the questions of the category.
+     */
+    List<QuizQuestion> questions(int category, ChoicePool choicePool) {
+        int record = categoryRecord(category);
+        int first = buffer.getInt(record + 4);
+        int count = buffer.getInt(record + 8);
+        int questionTable = records + 4 + CATEGORY_RECORD * categoryCount();
+        int choiceTable = questionTable + 4 + QUESTION_RECORD * buffer.getInt(questionTable) + 4;
+        List<QuizQuestion> questions = new ArrayList<>(count);
+        for (int q = first; q < first + count; q++) {
+            int question = questionTable + 4 + QUESTION_RECORD * q;
+            int firstChoice = buffer.getInt(question + 8);
+            int[] choiceIds = new int[buffer.getInt(question + 12)];
+            for (int c = 0; c < choiceIds.length; c++) {
+                choiceIds[c] = choicePool.intern(string(buffer.getInt(choiceTable + 4 * (firstChoice + c))));
+            }
+            questions.add(new QuizQuestion(string(buffer.getInt(question)), choicePool, choiceIds,
+                    buffer.getInt(question + 4)));
+        }
+        return questions;
+    }
+
+    /**
+     * Lists the distinct category names in file order and where each one is stored.
+     * A repeated category keeps its first position but refers to its last record, like the JSON loaders.
+     *
+     * @return the map from category name to record position, in display order.
+     */
+    Map<String, Integer> categoryPositions() {
+        Map<String, Integer> positions = new LinkedHashMap<>();
+        int count = categoryCount();
+        for (int i = 0; i < count; i++) {
+            positions.put(categoryName(i), i);
+        }
+        return Collections.unmodifiableMap(positions);
+    }
+
+    private int categoryRecord(int category) {
+        return records + 4 + CATEGORY_RECORD * category;
+    }
+
+    private void checkKind(int expected) {
+        if (kind != expected) {
+            throw new IllegalStateException("Snapshot kind " + kind + " is not " + expected);
+        }
+    }
+
+    /**
+     * Compiles a JSON data file into its snapshot, at {@link #snapshotPath(String)}.
+     *
+     * @param jsonPath the path of the JSON data file, resolved on the classpath first and then on disk.
+     * @param kind     the snapshot kind, {@link #FLASHCARDS} or {@link #QUESTIONS}.
+     * @return the path of the written snapshot.
+     * @throws IOException if the JSON file cannot be read or the snapshot cannot be written.
+     */
+    public static Path compile(String jsonPath, int kind) throws IOException {
+        URL source = ResourceLocator.locate(jsonPath);
+        if (source == null) {
+            throw new IOException("Resource not found: " + jsonPath);
+        }
+        Path target = snapshotPath(jsonPath);
+        long[] stamp = ResourceLocator.stamp(source);
+        try (InputStream inputStream = source.openStream()) {
+            write(new JsonStreamReader(inputStream), kind, stamp, target);
+        }
+        return target;
+    }
+
+    /**
+     * Writes the snapshot of an already opened JSON document.
+     * The file is written to a temporary sibling first and moved into place, so readers never see half a file.
+     *
+     * @param reader the reader positioned at the start of the document.
+     * @param kind   the snapshot kind.
+     * @param stamp  the modification time and size of the source file.
+     * @param target the snapshot file to write.
+     * @throws IOException if the document is malformed or the file cannot be written.
+     */
+    static void write(JsonStreamReader reader, int kind, long[] stamp, Path target) throws IOException {
+        StringTable strings = new StringTable();
+        IntBuffer recordData = new IntBuffer();
+        if (kind == FLASHCARDS) {
+            readFlashcards(reader, strings, recordData);
+        } else if (kind == QUESTIONS) {
+            readQuestions(reader, strings, recordData);
+        } else {
+            throw new IllegalArgumentException("Unknown snapshot kind " + kind);
+        }
+
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            int stringTable = HEADER_SIZE;
+            int recordSection = stringTable + 4 + 4 * (strings.size() + 1) + strings.byteCount();
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(kind);
+            out.writeLong(stamp[0]);
+            out.writeLong(stamp[1]);
+            out.writeInt(stringTable);
+            out.writeInt(recordSection);
+            strings.writeTo(out);
+            recordData.writeTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        JsonUtils.moveIntoPlace(temp, target);
+    }
+
+    private static void readFlashcards(JsonStreamReader reader, StringTable strings, IntBuffer recordData)
+            throws IOException {
+        IntBuffer cards = new IntBuffer();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String title = null;
+            String info = Flashcard.NO_INFO;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("Title")) {
+                    title = reader.nextString();
+                } else if (name.equals("Info") && reader.peek() != JsonStreamReader.Token.NULL) {
+                    info = reader.peek() == JsonStreamReader.Token.STRING
+                            ? reader.nextString() : String.valueOf(reader.readValue());
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (title == null) {
+                throw new MalformedJsonException("Flashcard without a Title");
+            }
+            cards.add(strings.id(title));
+            cards.add(strings.id(info));
+        }
+        reader.endArray();
+        recordData.add(cards.size() / 2);
+        recordData.addAll(cards);
+    }
+
+    private static void readQuestions(JsonStreamReader reader, StringTable strings, IntBuffer recordData)
+            throws IOException {
+        IntBuffer categories = new IntBuffer();
+        IntBuffer questions = new IntBuffer();
+        IntBuffer choices = new IntBuffer();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            int name = -1;
+            int firstQuestion = questions.size() / 4;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String field = reader.nextName();
+                if (field.equals("category")) {
+                    name = strings.id(reader.nextString());
+                } else if (field.equals("questions")) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        readQuestion(reader, strings, questions, choices);
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (name < 0) {
+                throw new MalformedJsonException("Category object without a \"category\" name");
+            }
+            categories.add(name);
+            categories.add(firstQuestion);
+            categories.add(questions.size() / 4 - firstQuestion);
+        }
+        reader.endArray();
+        recordData.add(categories.size() / 3);
+        recordData.addAll(categories);
+        recordData.add(questions.size() / 4);
+        recordData.addAll(questions);
+        recordData.add(choices.size());
+        recordData.addAll(choices);
+    }
+
+    private static void readQuestion(JsonStreamReader reader, StringTable strings, IntBuffer questions,
+                                     IntBuffer choices) throws IOException {
+        int text = -1;
+        int correctAnswerIndex = -1;
+        int firstChoice = choices.size();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "questionText":
+                    text = strings.id(reader.nextString());
+                    break;
+                case "choices":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        String choice = reader.peek() == JsonStreamReader.Token.STRING
+                                ? reader.nextString() : String.valueOf(reader.readValue());
+                        choices.add(strings.id(choice));
+                    }
+                    reader.endArray();
+                    break;
+                case "correctAnswerIndex":
+                    correctAnswerIndex = reader.nextInt();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (text < 0 || correctAnswerIndex < 0) {
+            throw new MalformedJsonException("Question object without questionText or correctAnswerIndex");
+        }
+        questions.add(text);
+        questions.add(correctAnswerIndex);
+        questions.add(firstChoice);
+        questions.add(choices.size() - firstChoice);
+    }
+
+    /**
+     * Compiles the snapshots of the given data files.
+     * Usage: {@code DataSnapshot [flashcards.json] [questions.json]}; without arguments the bundled
+     * flashcardsInfo.json and questions.json are compiled.
+     *
+     * @param args the optional flashcards and questions file paths.
+     * @throws IOException if a snapshot cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        String flashcards = args.length > 0 ? args[0] : DatabaseJson.DEFAULT_FLASHCARDS_JSON_PATH;
+        String questions = args.length > 1 ? args[1] : QuizData.DEFAULT_QUIZ_JSON_PATH;
+        System.out.println("Wrote " + compile(flashcards, FLASHCARDS));
+        System.out.println("Wrote " + compile(questions, QUESTIONS));
+    }
+
+    /**
+     * A growable array of ints used while compiling.
+     */
+    private static final class IntBuffer {
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntBuffer other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            for (int i = 0; i < size; i++) {
+                out.writeInt(values[i]);
+            }
+        }
+    }
+
+    /**
+     * The deduplicated strings of a snapshot being compiled.
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private int byteCount;
+
+        int id(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = encoded.size();
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                byteCount += bytes.length;
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        int size() {
+            return encoded.size();
+        }
+
+        int byteCount() {
+            return byteCount;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(encoded.size());
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] bytes : encoded) {
+                offset += bytes.length;
+                out.writeInt(offset);
+            }
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -1,24 +1,35 @@
 package org.example.model;
 
-import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
 
 /**
  * The DatabaseJson class is responsible for loading flashcards data from a JSON file.
+ * Only the titles stay resident: each flashcard remembers where its Info text is stored, and the text is
+ * fetched on demand through a small bounded cache.
  */
 public class DatabaseJson {
-    private static final String DEFAULT_FLASHCARDS_JSON_PATH = "flashcardsInfo.json";
+    static final String DEFAULT_FLASHCARDS_JSON_PATH = "flashcardsInfo.json";
+    static final int MAX_CACHED_INFOS = 16;
+    static final long MAX_CACHED_INFO_BYTES = 1024 * 1024;
     private final String path;
-    private final List<JSONObject> flashcards;
+    private final BoundedCache<Long, String> infoCache =
+            new BoundedCache<>(MAX_CACHED_INFOS, MAX_CACHED_INFO_BYTES, info -> 40L + info.length());
+    private final List<Flashcard> flashcards;
 
     /**
      * Constructs a new DatabaseJson instance and loads the flashcards data.
@@ -34,25 +45,41 @@ public class DatabaseJson {
      */
     public DatabaseJson(String path) {
         this.path = path;
-        this.flashcards = loadFlashcards();
+        this.flashcards = readFlashcards();
     }
 
     /**
-     * Loads flashcards from the specified JSON file path.
+     * Reads the flashcards from the specified JSON file path.
+     * A current binary snapshot of the file is read instead of the JSON when one exists, and the JSON is
+     * otherwise parsed token by token straight into Flashcard objects. Info texts are skipped and only
+     * their position is kept.
      *
-     * @return a list of JSONObjects representing the flashcards.
+     * @return an unmodifiable list of the flashcards.
+     * @throws JSONException if the file is not valid flashcards JSON.
      */
-    List<JSONObject> loadFlashcards() {
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(path)) {  // Accessing through ClassLoader
-            if (inputStream == null) {
+    List<Flashcard> readFlashcards() {
+        DataSnapshot snapshot = DataSnapshot.openFor(path, DataSnapshot.FLASHCARDS);
+        if (snapshot != null) {
+            return readFlashcards(snapshot);
+        }
+        URL url = ResourceLocator.locate(path);
+        try {
+            if (url == null) {
                 throw new IOException("Resource not found: " + path);
             }
-            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
-            String jsonData = reader.lines().collect(Collectors.joining());
-            JSONArray flashcardsArray = new JSONArray(jsonData);
-            return IntStream.range(0, flashcardsArray.length())
-                    .mapToObj(flashcardsArray::getJSONObject)
-                    .collect(Collectors.toList());
+            try (InputStream inputStream = url.openStream()) {
+                JsonStreamReader reader = new JsonStreamReader(inputStream);
+                Flashcard.InfoSource infoSource = offset -> cachedInfo(offset, o -> readInfoAt(url, o));
+                List<Flashcard> cards = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    cards.add(readFlashcard(reader, infoSource));
+                }
+                reader.endArray();
+                return Collections.unmodifiableList(cards);
+            }
+        } catch (MalformedJsonException e) {
+            throw new JSONException("Malformed flashcards " + path + ": " + e.getMessage(), e);
         } catch (IOException e) {
             System.err.println("Error loading flashcards from JSON: " + e.getMessage());
             return Collections.emptyList();
@@ -60,11 +87,243 @@ public class DatabaseJson {
     }
 
     /**
-     * Retrieves the loaded flashcards data.
+     * Reads one flashcard object, remembering the byte offset of its Info text instead of decoding it.
+     *
+     * @param reader     the reader positioned at the start of a flashcard object.
+     * @param infoSource the source that fetches Info texts by offset.
+     * @return the flashcard that was read.
+     * @throws IOException if the flashcard cannot be read.
+     */
+    private static Flashcard readFlashcard(JsonStreamReader reader, Flashcard.InfoSource infoSource)
+            throws IOException {
+        String title = null;
+        String info = Flashcard.NO_INFO;
+        long infoOffset = -1;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("Title")) {
+                title = reader.nextString();
+            } else if (name.equals("Info") && reader.peek() == JsonStreamReader.Token.STRING) {
+                infoOffset = reader.position();
+                reader.skipValue();
+            } else if (name.equals("Info") && reader.peek() != JsonStreamReader.Token.NULL) {
+                info = String.valueOf(reader.readValue());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (title == null) {
+            throw new MalformedJsonException("Flashcard without a Title");
+        }
+        return infoOffset < 0 ? new Flashcard(title, info) : new Flashcard(title, infoSource, infoOffset);
+    }
+
+    /**
+     * Reads the flashcards from a binary snapshot. Info texts stay in the mapped file until requested.
+     *
+     * @param snapshot the mapped flashcards snapshot.
+     * @return an unmodifiable list of the flashcards.
+     */
+    private List<Flashcard> readFlashcards(DataSnapshot snapshot) {
+        Flashcard.InfoSource infoSource = id -> cachedInfo(id, i -> snapshot.string((int) i));
+        int count = snapshot.cardCount();
+        List<Flashcard> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(new Flashcard(snapshot.cardTitle(i), infoSource, snapshot.cardInfoId(i)));
+        }
+        return Collections.unmodifiableList(cards);
+    }
+
+    /**
+     * Returns an Info text from the cache, fetching and caching it on a miss.
+     *
+     * @param infoRef the reference of the Info text.
+     * @param fetch   the function reading the text from its source.
+     * @return the Info text.
+     */
+    private String cachedInfo(long infoRef, LongFunction<String> fetch) {
+        String info = infoCache.get(infoRef);
+        if (info == null) {
+            info = fetch.apply(infoRef);
+            infoCache.put(infoRef, info);
+        }
+        return info;
+    }
+
+    /**
+     * Reads the JSON string stored at a byte offset of the flashcards file.
+     * A file on disk is read from the offset directly; a resource that cannot be positioned, such as one
+     * packed in a jar, is read up to it.
+     *
+     * @param url    the flashcards file.
+     * @param offset the byte offset of the string token.
+     * @return the decoded string, or the default text if it cannot be read.
+     */
+    private static String readInfoAt(URL url, long offset) {
+        Path file = ResourceLocator.toPath(url);
+        try (InputStream inputStream = file != null
+                ? Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ).position(offset))
+                : url.openStream()) {
+            if (file == null) {
+                inputStream.skipNBytes(offset);
+            }
+            return new JsonStreamReader(inputStream).nextString();
+        } catch (IOException e) {
+            System.err.println("Error loading flashcard info from JSON: " + e.getMessage());
+            return Flashcard.NO_INFO;
+        }
+    }
+
+    /**
+     * Indexes the Info texts of the loaded flashcards for full-text search, keyed by title.
+     * Each document starts with its title, so title words count toward the same BM25 score as the text and
+     * one ranking covers both. The texts are read in one sequential pass that bypasses the Info cache.
+     * Cards sharing a title are indexed as one document holding all their texts. Only cards whose text
+     * changed since the last call on the same index are reindexed, and titles no longer in the deck are
+     * removed, so a DatabaseJson created for a modified file can bring an existing index up to date cheaply.
+     *
+     * @param index the index to update.
+     * @return the number of documents that were reindexed.
+     */
+    public int indexInfos(FullTextIndex index) {
+        Map<String, Integer> remaining = new HashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            remaining.merge(flashcard.getTitle(), 1, Integer::sum);
+        }
+        Map<String, StringBuilder> shared = new HashMap<>();
+        int[] reindexed = new int[1];
+        forEachInfo((title, info) -> {
+            Integer left = remaining.get(title);
+            if (left == null) {
+                return;
+            }
+            String text = title + '\n' + info;
+            if (left > 1 || shared.containsKey(title)) {
+                StringBuilder builder = shared.computeIfAbsent(title, t -> new StringBuilder(title).append('\n'));
+                builder.append(info).append('\n');
+                remaining.put(title, left - 1);
+                if (left > 1) {
+                    return;
+                }
+                text = builder.toString();
+            }
+            if (index.update(title, text)) {
+                reindexed[0]++;
+            }
+        });
+        index.retainAll(remaining.keySet());
+        return reindexed[0];
+    }
+
+    /**
+     * Streams the title and Info text of every flashcard in file order, from the snapshot when one is
+     * current and from the JSON otherwise.
+     *
+     * @param consumer the consumer receiving each title and Info text.
+     */
+    private void forEachInfo(BiConsumer<String, String> consumer) {
+        DataSnapshot snapshot = DataSnapshot.openFor(path, DataSnapshot.FLASHCARDS);
+        if (snapshot != null) {
+            for (int i = 0; i < snapshot.cardCount(); i++) {
+                consumer.accept(snapshot.cardTitle(i), snapshot.string(snapshot.cardInfoId(i)));
+            }
+            return;
+        }
+        URL url = ResourceLocator.locate(path);
+        try {
+            if (url == null) {
+                throw new IOException("Resource not found: " + path);
+            }
+            try (InputStream inputStream = url.openStream()) {
+                JsonStreamReader reader = new JsonStreamReader(inputStream);
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    String title = null;
+                    String info = Flashcard.NO_INFO;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if (name.equals("Title")) {
+                            title = reader.nextString();
+                        } else if (name.equals("Info") && reader.peek() != JsonStreamReader.Token.NULL) {
+                            info = String.valueOf(reader.readValue());
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    if (title != null) {
+                        consumer.accept(title, info);
+                    }
+                }
+                reader.endArray();
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading flashcard info from JSON: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the Info text cache.
+     *
+     * @return a snapshot of the cache statistics.
+     */
+    public CacheStats getInfoCacheStats() {
+        return infoCache.stats();
+    }
+
+    /**
+     * Loads flashcards from the specified JSON file path.
+     * Compatibility adapter for callers that still want JSON objects.
      *
      * @return a list of JSONObjects representing the flashcards.
      */
-    public List<JSONObject> getData() {
+    List<JSONObject> loadFlashcards() {
+        return toJson(readFlashcards());
+    }
+
+    /**
+     * Retrieves the loaded flashcards.
+     *
+     * @return an unmodifiable list of the flashcards.
+     */
+    public List<Flashcard> getFlashcards() {
         return flashcards;
     }
+
+    /**
+     * Retrieves the loaded flashcards data as JSON objects.
+     * Compatibility adapter for callers that still want JSON; each call builds new objects.
+     *
+     * @return a list of JSONObjects representing the flashcards.
+     */
+    public List<JSONObject> getData() {
+        return toJson(flashcards);
+    }
+
+    /**
+     * Converts flashcards to JSON objects, reading their Info texts in one sequential pass over the file
+     * rather than fetching each on its own. Should the file no longer match the cards, the remaining texts
+     * are fetched card by card.
+     *
+     * @param cards the flashcards, in file order.
+     * @return a list of JSONObjects representing the flashcards.
+     */
+    private List<JSONObject> toJson(List<Flashcard> cards) {
+        List<JSONObject> json = new ArrayList<>(cards.size());
+        boolean[] matching = {true};
+        forEachInfo((title, info) -> {
+            int i = json.size();
+            matching[0] &= i < cards.size() && cards.get(i).getTitle().equals(title);
+            if (matching[0]) {
+                json.add(new JSONObject().put("Title", title).put("Info", info));
+            }
+        });
+        for (int i = json.size(); i < cards.size(); i++) {
+            json.add(cards.get(i).toJson());
+        }
+        return json;
+    }
 }
@@ -0,0 +1,317 @@
+package org.example.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+
+/**
+ * The DeckGenerator class writes synthetic flashcards and questions files, in the schemas read by
+ * {@link DatabaseJson} and {@link QuizData}, to test the application at any scale.
+ * The output is determined by the seed alone. Every card and category is generated from its own random stream
+ * derived from the seed and its position, so the first entries of a large deck are the same as those of a
+ * small one. Entries are written one at a time as they are generated, so memory use does not depend on the
+ * size of the files, which can reach gigabytes.
+ * Info texts contain quotes, line breaks and accented letters, and their lengths are spread log-uniformly
+ * between the bounds, so most cards are short and a few are long.
+ */
+public class DeckGenerator {
+    /** The seed used when none is given. */
+    public static final long DEFAULT_SEED = 42;
+    static final int DEFAULT_CARDS = 200;
+    static final int DEFAULT_CATEGORIES = 20;
+    static final int DEFAULT_QUESTIONS_PER_CATEGORY = 10;
+    static final int DEFAULT_CHOICES = 4;
+    static final int DEFAULT_MIN_INFO_LENGTH = 100;
+    static final int DEFAULT_MAX_INFO_LENGTH = 2000;
+
+    private static final long FLASHCARD_STREAM = 0x464C415348L;
+    private static final long CATEGORY_STREAM = 0x5155495AL;
+    private static final String[] TOPICS = {
+        "Polymorphism", "Inheritance", "Encapsulation", "Abstraction", "Interfaces", "Generics", "Collections",
+        "Streams", "Lambdas", "Exceptions", "Threads", "Synchronization", "Annotations", "Reflection", "Records",
+        "Enums", "Arrays", "Strings", "Iterators", "Modules", "Serialization", "Recursion", "Sorting", "Hashing",
+        "Garbage Collection", "Class Loading", "Optional", "Varargs", "Autoboxing", "Sealed Classes"
+    };
+    private static final String[] WORDS = {
+        "class", "object", "method", "field", "type", "value", "reference", "heap", "stack", "compiler",
+        "runtime", "interface", "instance", "variable", "loop", "condition", "parameter", "return", "thread",
+        "lock", "collection", "map", "list", "set", "key", "index", "array", "string", "byte", "modifier",
+        "package", "import", "constructor", "overload", "override", "cast", "generic", "bound", "café", "naïve"
+    };
+
+    private final long seed;
+    private final int cards;
+    private final int categories;
+    private final int questionsPerCategory;
+    private final int minChoices;
+    private final int maxChoices;
+    private final int minInfoLength;
+    private final int maxInfoLength;
+
+    /**
+     * Constructs a DeckGenerator for a deck of the size of the bundled one: 200 cards and 20 categories of
+     * 10 questions with 4 choices each.
+     *
+     * @param seed the seed determining the generated data.
+     */
+    public DeckGenerator(long seed) {
+        this(seed, DEFAULT_CARDS, DEFAULT_CATEGORIES, DEFAULT_QUESTIONS_PER_CATEGORY,
+                DEFAULT_CHOICES, DEFAULT_CHOICES, DEFAULT_MIN_INFO_LENGTH, DEFAULT_MAX_INFO_LENGTH);
+    }
+
+    /**
+     * Constructs a DeckGenerator.
+     *
+     * @param seed                 the seed determining the generated data.
+     * @param cards                the number of flashcards.
+     * @param categories           the number of quiz categories.
+     * @param questionsPerCategory the number of questions in each category.
+     * @param minChoices           the smallest number of choices of a question, at least 1.
+     * @param maxChoices           the largest number of choices of a question.
+     * @param minInfoLength        the shortest Info text, in characters.
+     * @param maxInfoLength        the longest Info text, in characters.
+     * @throws IllegalArgumentException if a count is negative or a range is empty.
+     */
+    public DeckGenerator(long seed, int cards, int categories, int questionsPerCategory,
+                         int minChoices, int maxChoices, int minInfoLength, int maxInfoLength) {
+        if (cards < 0 || categories < 0 || questionsPerCategory < 0) {
+            throw new IllegalArgumentException("Negative deck size");
+        }
+        if (minChoices < 1 || maxChoices < minChoices) {
+            throw new IllegalArgumentException("Invalid choice range: " + minChoices + "-" + maxChoices);
+        }
+        if (minInfoLength < 0 || maxInfoLength < minInfoLength) {
+            throw new IllegalArgumentException("Invalid Info length range: " + minInfoLength + "-" + maxInfoLength);
+        }
+        this.seed = seed;
+        this.cards = cards;
+        this.categories = categories;
+        this.questionsPerCategory = questionsPerCategory;
+        this.minChoices = minChoices;
+        this.maxChoices = maxChoices;
+        this.minInfoLength = minInfoLength;
+        this.maxInfoLength = maxInfoLength;
+    }
+
+    /**
+     * Creates a DeckGenerator from command line options of the form {@code name=value}:
+     * {@code cards}, {@code categories}, {@code questions} for the questions per category,
+     * {@code choices} and {@code info} as a single number or a {@code min-max} range, and {@code seed}.
+     * Options that are not given keep the defaults of {@link #DeckGenerator(long)}.
+     *
+     * @param options the options.
+     * @return the generator.
+     * @throws IllegalArgumentException if an option is unknown or its value is invalid.
+     */
+    public static DeckGenerator fromOptions(String... options) {
+        long seed = DEFAULT_SEED;
+        int[] values = {DEFAULT_CARDS, DEFAULT_CATEGORIES, DEFAULT_QUESTIONS_PER_CATEGORY,
+            DEFAULT_CHOICES, DEFAULT_CHOICES, DEFAULT_MIN_INFO_LENGTH, DEFAULT_MAX_INFO_LENGTH};
+        for (String option : options) {
+            int equals = option.indexOf('=');
+            String name = equals < 0 ? option : option.substring(0, equals);
+            String value = option.substring(equals + 1);
+            try {
+                switch (name) {
+                    case "seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "cards":
+                        values[0] = Integer.parseInt(value);
+                        break;
+                    case "categories":
+                        values[1] = Integer.parseInt(value);
+                        break;
+                    case "questions":
+                        values[2] = Integer.parseInt(value);
+                        break;
+                    case "choices":
+                        parseRange(value, values, 3);
+                        break;
+                    case "info":
+                        parseRange(value, values, 5);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value in option: " + option);
+            }
+        }
+        return new DeckGenerator(seed, values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+    }
+
+    /**
+     * Writes {@code flashcardsInfo.json} and {@code questions.json} into a directory.
+     *
+     * @param directory the directory, created if it does not exist.
+     * @throws IOException if the directory cannot be created.
+     */
+    public void writeTo(String directory) throws IOException {
+        Path path = Files.createDirectories(Paths.get(directory));
+        writeFlashcards(path.resolve(DatabaseJson.DEFAULT_FLASHCARDS_JSON_PATH).toString());
+        writeQuestions(path.resolve(QuizData.DEFAULT_QUIZ_JSON_PATH).toString());
+    }
+
+    /**
+     * Writes the flashcards file, replacing it atomically as {@link JsonUtils} does.
+     *
+     * @param path the path of the file.
+     */
+    public void writeFlashcards(String path) {
+        JsonUtils.writeJsonFile(path, this::writeFlashcards, false);
+    }
+
+    /**
+     * Writes the questions file, replacing it atomically as {@link JsonUtils} does.
+     *
+     * @param path the path of the file.
+     */
+    public void writeQuestions(String path) {
+        JsonUtils.writeJsonFile(path, this::writeQuestions, false);
+    }
+
+    /**
+     * Writes the flashcards as a JSON array of objects with a "Title" and an "Info".
+     *
+     * @param writer the writer to write to.
+     * @throws IOException if the JSON cannot be written.
+     */
+    public void writeFlashcards(JsonStreamWriter writer) throws IOException {
+        writer.beginArray();
+        StringBuilder info = new StringBuilder(maxInfoLength + 64);
+        for (int i = 0; i < cards; i++) {
+            writer.beginObject();
+            writer.name("Title").value(cardTitle(i));
+            writer.name("Info").value(info(random(FLASHCARD_STREAM, i), TOPICS[i % TOPICS.length], info));
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    /**
+     * Writes the questions as a JSON array of categories, each with a "category" name and its "questions".
+     *
+     * @param writer the writer to write to.
+     * @throws IOException if the JSON cannot be written.
+     */
+    public void writeQuestions(JsonStreamWriter writer) throws IOException {
+        writer.beginArray();
+        for (int c = 0; c < categories; c++) {
+            SplittableRandom random = random(CATEGORY_STREAM, c);
+            writer.beginObject();
+            writer.name("category").value(categoryName(c));
+            writer.name("questions").beginArray();
+            for (int q = 0; q < questionsPerCategory; q++) {
+                String topic = TOPICS[random.nextInt(TOPICS.length)];
+                int choiceCount = minChoices + random.nextInt(maxChoices - minChoices + 1);
+                writer.beginObject();
+                writer.name("questionText").value("Question " + (q + 1) + ": which statement about "
+                        + topic.toLowerCase() + " is true?");
+                writer.name("choices").beginArray();
+                for (int k = 0; k < choiceCount; k++) {
+                    writer.value(sentence(random, topic));
+                }
+                writer.endArray();
+                writer.name("correctAnswerIndex").value(random.nextInt(choiceCount));
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    /**
+     * Gets the title of a generated flashcard. Titles are unique and do not depend on the seed.
+     *
+     * @param index the position of the card.
+     * @return the title.
+     */
+    public static String cardTitle(int index) {
+        return TOPICS[index % TOPICS.length] + " " + (index / TOPICS.length + 1);
+    }
+
+    /**
+     * Gets the name of a generated quiz category. Names are unique and do not depend on the seed.
+     *
+     * @param index the position of the category.
+     * @return the category name.
+     */
+    public static String categoryName(int index) {
+        return TOPICS[(index * 7) % TOPICS.length] + " Quiz " + (index + 1);
+    }
+
+    /**
+     * Fills a builder with an Info text of random length about a topic.
+     *
+     * @param random the random stream of the card.
+     * @param topic  the topic of the card.
+     * @param info   the builder to reuse.
+     * @return the Info text.
+     */
+    private String info(SplittableRandom random, String topic, StringBuilder info) {
+        double low = Math.log(minInfoLength + 1.0);
+        double high = Math.log(maxInfoLength + 1.0);
+        int length = (int) Math.round(Math.exp(low + random.nextDouble() * (high - low))) - 1;
+        length = Math.max(minInfoLength, Math.min(maxInfoLength, length));
+        info.setLength(0);
+        while (info.length() < length) {
+            if (info.length() > 0) {
+                info.append(random.nextInt(5) == 0 ? "\n\n" : " ");
+            }
+            info.append(sentence(random, topic));
+        }
+        info.setLength(length);
+        return info.toString();
+    }
+
+    /**
+     * Makes up a sentence about a topic, quoting one of its words.
+     *
+     * @param random the random stream to draw words from.
+     * @param topic  the topic of the sentence.
+     * @return the sentence.
+     */
+    private static String sentence(SplittableRandom random, String topic) {
+        StringBuilder sentence = new StringBuilder(topic);
+        int words = 4 + random.nextInt(8);
+        int quoted = random.nextInt(words);
+        for (int w = 0; w < words; w++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            sentence.append(' ');
+            if (w == quoted) {
+                sentence.append('"').append(word).append('"');
+            } else {
+                sentence.append(word);
+            }
+        }
+        return sentence.append('.').toString();
+    }
+
+    /**
+     * Derives the random stream of one entry from the seed, so every entry can be generated on its own.
+     *
+     * @param stream the constant telling the kinds of entries apart.
+     * @param index  the position of the entry.
+     * @return the random stream.
+     */
+    private SplittableRandom random(long stream, int index) {
+        return new SplittableRandom(seed ^ stream * 0x9E3779B97F4A7C15L ^ (index + 1L) * 0xBF58476D1CE4E5B9L);
+    }
+
+    /**
+     * Parses a number or a {@code min-max} range into two slots of an array.
+     *
+     * @param value  the number or range.
+     * @param values the array receiving the bounds.
+     * @param offset the slot of the lower bound; the upper bound goes in the next one.
+     */
+    private static void parseRange(String value, int[] values, int offset) {
+        int dash = value.indexOf('-', 1);
+        values[offset] = Integer.parseInt(dash < 0 ? value : value.substring(0, dash));
+        values[offset + 1] = dash < 0 ? values[offset] : Integer.parseInt(value.substring(dash + 1));
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.model;
+
+import org.json.JSONObject;
+
+/**
+ * The Flashcard class represents a flashcard with its title and its information text.
+ * Flashcards created by a loader may keep only a reference to their information text and fetch it
+ * from the loader when {@link #getInfo()} is called.
+ */
+public class Flashcard {
+    /** The text used when a flashcard has no Info field. */
+    public static final String NO_INFO = "No additional information available.";
+
+    /**
+     * Fetches the information text of a flashcard on demand.
+     */
+    interface InfoSource {
+        /**
+         * Loads the information text stored under the given reference.
+         *
+         * @param infoRef the loader-specific reference, such as a file offset or a string id.
+         * @return the information text.
+         */
+        String loadInfo(long infoRef);
+    }
+
+    private final String title;
+    private final String info;
+    private final InfoSource infoSource;
+    private final long infoRef;
+
+    /**
+     * Constructs a new Flashcard with the specified title and information text.
+     *
+     * @param title the title of the flashcard.
+     * @param info  the information text of the flashcard.
+     */
+    public Flashcard(String title, String info) {
+        this.title = title;
+        this.info = info;
+        this.infoSource = null;
+        this.infoRef = -1;
+    }
+
+    /**
+     * Constructs a new Flashcard whose information text is fetched from the given source when needed.
+     *
+     * @param title      the title of the flashcard.
+     * @param infoSource the source holding the information text.
+     * @param infoRef    the reference of the information text in the source.
+     */
+    Flashcard(String title, InfoSource infoSource, long infoRef) {
+        this.title = title;
+        this.info = null;
+        this.infoSource = infoSource;
+        this.infoRef = infoRef;
+    }
+
+    /**
+     * Creates a Flashcard from its JSON form, with "Title" and an optional "Info" field.
+     *
+     * @param json the JSON object of the flashcard.
+     * @return the flashcard.
+     */
+    public static Flashcard fromJson(JSONObject json) {
+        return new Flashcard(json.getString("Title"), json.optString("Info", NO_INFO));
+    }
+
+    /**
+     * Retrieves the title of the flashcard.
+     *
+     * @return the title.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Retrieves the information text of the flashcard, fetching it from its source if it is not resident.
+     *
+     * @return the information text.
+     */
+    public String getInfo() {
+        return info != null ? info : infoSource.loadInfo(infoRef);
+    }
+
+    /**
+     * Converts the flashcard to its JSON form, for callers that still work with JSON objects.
+     *
+     * @return a new JSON object with "Title" and "Info" fields.
+     */
+    public JSONObject toJson() {
+        return new JSONObject().put("Title", title).put("Info", getInfo());
+    }
+}
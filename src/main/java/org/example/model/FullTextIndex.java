@@ -0,0 +1,315 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The FullTextIndex class is an inverted index over text documents identified by string keys, ranked with BM25.
+ * Text is split into lowercase words, common English stop words are dropped and the remaining words are
+ * reduced to a light stem, so "streams", "streaming" and "streamed" all match "stream".
+ * The index is incremental: each document remembers a hash of its text, and updating a document with
+ * unchanged text does nothing. Removed documents leave free ids behind, which are compacted away once they
+ * outnumber the live documents, so an index that is updated over and over keeps its size.
+ * All methods are synchronized, so the index can be built on a background thread while it is being searched.
+ */
+public class FullTextIndex {
+    static final int MIN_COMPACTION_GARBAGE = 64;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "in", "is", "it", "of", "on", "or", "that", "the", "this", "to", "was", "with");
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private long totalLength;
+
+    /**
+     * Indexes the text of a document, replacing any previous text indexed under the same key.
+     *
+     * @param key  the key identifying the document.
+     * @param text the text of the document.
+     * @return true if the document was indexed, false if it was already indexed with the same text.
+     */
+    public synchronized boolean update(String key, String text) {
+        long hash = hash(text);
+        Integer existing = idsByKey.get(key);
+        if (existing != null) {
+            if (documents.get(existing).hash == hash) {
+                return false;
+            }
+            remove(key);
+        }
+
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        List<String> words = tokenize(text);
+        for (String word : words) {
+            frequencies.merge(word, 1, Integer::sum);
+        }
+        int id = documents.size();
+        String[] terms = frequencies.keySet().toArray(new String[0]);
+        documents.add(new Document(key, hash, words.size(), terms));
+        idsByKey.put(key, id);
+        totalLength += words.size();
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(id, entry.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Removes a document from the index.
+     *
+     * @param key the key identifying the document.
+     * @return true if the document was indexed.
+     */
+    public synchronized boolean remove(String key) {
+        Integer id = idsByKey.remove(key);
+        if (id == null) {
+            return false;
+        }
+        Document document = documents.get(id);
+        for (String term : document.terms) {
+            Postings termPostings = postings.get(term);
+            termPostings.remove(id);
+            if (termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length;
+        documents.set(id, null);
+        int garbage = documents.size() - idsByKey.size();
+        if (garbage >= MIN_COMPACTION_GARBAGE && garbage > idsByKey.size()) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Renumbers the documents so their ids are dense again, dropping the slots of removed documents.
+     * Ids keep their order, so the postings stay sorted and ties in search keep ranking the same way.
+     */
+    private void compact() {
+        int[] newIds = new int[documents.size()];
+        List<Document> live = new ArrayList<>(idsByKey.size());
+        for (int id = 0; id < documents.size(); id++) {
+            Document document = documents.get(id);
+            if (document != null) {
+                newIds[id] = live.size();
+                idsByKey.put(document.key, live.size());
+                live.add(document);
+            }
+        }
+        for (Postings termPostings : postings.values()) {
+            for (int i = 0; i < termPostings.size; i++) {
+                termPostings.ids[i] = newIds[termPostings.ids[i]];
+            }
+        }
+        documents.clear();
+        documents.addAll(live);
+    }
+
+    /**
+     * Gets the number of document slots, live or removed, the index holds.
+     *
+     * @return the number of slots.
+     */
+    synchronized int capacity() {
+        return documents.size();
+    }
+
+    /**
+     * Removes every document whose key is not in the given collection.
+     *
+     * @param keys the keys of the documents to keep.
+     * @return the number of documents removed.
+     */
+    public synchronized int retainAll(Collection<String> keys) {
+        Set<String> kept = new HashSet<>(keys);
+        List<String> stale = new ArrayList<>();
+        for (String key : idsByKey.keySet()) {
+            if (!kept.contains(key)) {
+                stale.add(key);
+            }
+        }
+        stale.forEach(this::remove);
+        return stale.size();
+    }
+
+    /**
+     * Gets the number of documents in the index.
+     *
+     * @return the number of documents.
+     */
+    public synchronized int size() {
+        return idsByKey.size();
+    }
+
+    /**
+     * Finds the documents containing any word of the query, most relevant first.
+     *
+     * @param query the words to search for.
+     * @param limit the maximum number of keys returned.
+     * @return the keys of the matching documents, ordered by decreasing BM25 score.
+     */
+    public synchronized List<String> search(String query, int limit) {
+        int count = idsByKey.size();
+        if (count == 0 || limit < 1) {
+            return new ArrayList<>();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / count);
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Postings termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (count - termPostings.size + 0.5) / (termPostings.size + 0.5));
+            for (int i = 0; i < termPostings.size; i++) {
+                int id = termPostings.ids[i];
+                int frequency = termPostings.frequencies[i];
+                double norm = K1 * (1 - B + B * documents.get(id).length / averageLength);
+                scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            }
+        }
+
+        List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort((a, b) -> a.getValue().equals(b.getValue())
+                ? Integer.compare(a.getKey(), b.getKey())
+                : Double.compare(b.getValue(), a.getValue()));
+        List<String> keys = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            keys.add(documents.get(ranked.get(i).getKey()).key);
+        }
+        return keys;
+    }
+
+    /**
+     * Splits text into the normalized words that are indexed: lowercase, without stop words and stemmed.
+     *
+     * @param text the text to split.
+     * @return the words in the order they appear.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (word.length() > 1 && !STOP_WORDS.contains(word)) {
+                    words.add(stem(word));
+                }
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Reduces a lowercase word to a light stem by removing common English plural and verb endings.
+     *
+     * @param word the word to stem.
+     * @return the stem.
+     */
+    static String stem(String word) {
+        String stem = word;
+        if (stem.endsWith("ies") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is")
+                && stem.length() > 3) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        if (stem.endsWith("ing") && stem.length() > 5) {
+            stem = undouble(stem.substring(0, stem.length() - 3));
+        } else if (stem.endsWith("ed") && stem.length() > 4) {
+            stem = undouble(stem.substring(0, stem.length() - 2));
+        } else if (stem.endsWith("e") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+
+    private static String undouble(String stem) {
+        int length = stem.length();
+        char last = stem.charAt(length - 1);
+        if (length > 2 && last == stem.charAt(length - 2) && "lsz".indexOf(last) < 0) {
+            return stem.substring(0, length - 1);
+        }
+        return stem;
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of a text, used to detect documents whose text did not change.
+     *
+     * @param text the text to hash.
+     * @return the hash.
+     */
+    private static long hash(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * An indexed document: its key, the hash and word count of its text and its distinct terms.
+     */
+    private static final class Document {
+        final String key;
+        final long hash;
+        final int length;
+        final String[] terms;
+
+        Document(String key, long hash, int length, String[] terms) {
+            this.key = key;
+            this.hash = hash;
+            this.length = length;
+            this.terms = terms;
+        }
+    }
+
+    /**
+     * The ids of the documents containing one term, in increasing order, with the term's frequency in each.
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int id, int frequency) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ids[size] = id;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+                size--;
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The FuzzyMatcher class finds names despite typos, such as "polymorfism" for "Polymorphism".
+ * The distinct lowercase words of all names are kept in a BK-tree, so a query word is only compared with the
+ * few words the triangle inequality cannot rule out. A name matches when every query word is within a small
+ * edit distance of one of its words: none for words of up to two letters, one for up to five letters and
+ * two for longer words. All methods are synchronized, so names can be added while another thread searches.
+ */
+public class FuzzyMatcher {
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, List<Integer>> namesByWord = new HashMap<>();
+    private Node root;
+
+    /**
+     * Adds a name to the matcher.
+     *
+     * @param name the name to add.
+     */
+    public synchronized void add(String name) {
+        int id = names.size();
+        names.add(name);
+        for (String word : words(name)) {
+            List<Integer> ids = namesByWord.get(word);
+            if (ids == null) {
+                ids = new ArrayList<>();
+                namesByWord.put(word, ids);
+                insert(word);
+            }
+            if (ids.isEmpty() || ids.get(ids.size() - 1) != id) {
+                ids.add(id);
+            }
+        }
+    }
+
+    /**
+     * Finds the names matching every word of the query within the allowed edit distance.
+     *
+     * @param query the words to search for.
+     * @param limit the maximum number of names returned.
+     * @return the matching names, closest first; names at the same distance keep the order they were added in.
+     */
+    public synchronized List<String> search(String query, int limit) {
+        List<String> queryWords = words(query);
+        List<String> results = new ArrayList<>();
+        if (queryWords.isEmpty() || root == null) {
+            return results;
+        }
+
+        Map<Integer, Integer> distances = null;
+        for (String queryWord : queryWords) {
+            Map<Integer, Integer> wordDistances = new HashMap<>();
+            collect(root, queryWord, maxDistance(queryWord), wordDistances);
+            if (distances == null) {
+                distances = wordDistances;
+            } else {
+                Map<Integer, Integer> both = new HashMap<>();
+                for (Map.Entry<Integer, Integer> entry : distances.entrySet()) {
+                    Integer distance = wordDistances.get(entry.getKey());
+                    if (distance != null) {
+                        both.put(entry.getKey(), entry.getValue() + distance);
+                    }
+                }
+                distances = both;
+            }
+            if (distances.isEmpty()) {
+                return results;
+            }
+        }
+
+        List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(distances.entrySet());
+        ranked.sort((a, b) -> a.getValue().equals(b.getValue())
+                ? Integer.compare(a.getKey(), b.getKey())
+                : Integer.compare(a.getValue(), b.getValue()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            results.add(names.get(ranked.get(i).getKey()));
+        }
+        return results;
+    }
+
+    /**
+     * Gets the number of names in the matcher.
+     *
+     * @return the number of names.
+     */
+    public synchronized int size() {
+        return names.size();
+    }
+
+    /**
+     * Collects the names having a word within the maximum distance of the query word, keeping the smallest
+     * distance for each name.
+     *
+     * @param node      the subtree to search.
+     * @param queryWord the lowercase query word.
+     * @param max       the maximum edit distance.
+     * @param distances the smallest distance found so far for each name id.
+     */
+    private void collect(Node node, String queryWord, int max, Map<Integer, Integer> distances) {
+        int distance = distance(queryWord, node.word);
+        if (distance <= max) {
+            for (int id : namesByWord.get(node.word)) {
+                distances.merge(id, distance, Math::min);
+            }
+        }
+        for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+            if (Math.abs(child.getKey() - distance) <= max) {
+                collect(child.getValue(), queryWord, max, distances);
+            }
+        }
+    }
+
+    /**
+     * Inserts a new word into the BK-tree.
+     *
+     * @param word the lowercase word.
+     */
+    private void insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Gets the edit distance allowed for a query word, which grows with its length.
+     *
+     * @param word the query word.
+     * @return the maximum edit distance.
+     */
+    static int maxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two words with a single row of costs.
+     *
+     * @param a the first word.
+     * @param b the second word.
+     * @return the number of insertions, deletions and substitutions turning a into b.
+     */
+    static int distance(String a, String b) {
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int diagonal = row[0];
+            row[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int above = row[j];
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                row[j] = Math.min(Math.min(row[j - 1] + 1, above + 1), diagonal + cost);
+                diagonal = above;
+            }
+        }
+        return row[b.length()];
+    }
+
+    /**
+     * Splits a name or query into lowercase words.
+     *
+     * @param text the text to split.
+     * @return the words.
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A word of the BK-tree with its children keyed by their distance to it.
+     */
+    private static final class Node {
+        final String word;
+        final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
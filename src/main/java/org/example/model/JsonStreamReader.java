@@ -0,0 +1,599 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The JsonStreamReader class is a small pull parser that reads UTF-8 encoded JSON token by token
+ * straight from a byte stream, without building the document as a String or a JSON tree first.
+ * It also keeps track of the byte position of the next token so callers can remember where a value starts.
+ * It is strict: trailing commas and integers out of range are rejected, and syntax errors are reported as
+ * {@link MalformedJsonException}.
+ */
+public class JsonStreamReader implements Closeable {
+
+    /**
+     * The kinds of tokens the reader can report through {@link #peek()}.
+     */
+    public enum Token {
+        BEGIN_ARRAY, END_ARRAY, BEGIN_OBJECT, END_OBJECT, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long bufferStart;
+
+    private byte[] stringBytes = new byte[64];
+    private int stringLength;
+
+    // One entry per open container: true while we expect a name inside an object.
+    private boolean[] inObject = new boolean[16];
+    private boolean[] expectName = new boolean[16];
+    private int depth;
+    private boolean needsSeparator;
+
+    /**
+     * Constructs a new JsonStreamReader over the given stream.
+     *
+     * @param in the stream of UTF-8 encoded JSON.
+     */
+    public JsonStreamReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Retrieves the number of bytes consumed before the next token.
+     *
+     * @return the byte position of the next token in the stream.
+     * @throws IOException if the stream cannot be read.
+     */
+    public long position() throws IOException {
+        skipWhitespaceAndSeparators();
+        return bufferStart + pos;
+    }
+
+    /**
+     * Looks at the type of the next token without consuming it.
+     *
+     * @return the type of the next token.
+     * @throws IOException if the stream cannot be read.
+     */
+    public Token peek() throws IOException {
+        int c = skipWhitespaceAndSeparators();
+        if (c == -1) {
+            return Token.END_DOCUMENT;
+        }
+        if (depth > 0 && expectName[depth - 1] && c != '}') {
+            if (c != '"') {
+                throw syntaxError("Expected a name but was '" + (char) c + "'");
+            }
+            return Token.NAME;
+        }
+        switch (c) {
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case ']':
+                return Token.END_ARRAY;
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '}':
+                return Token.END_OBJECT;
+            case '"':
+                return Token.STRING;
+            case 't':
+            case 'f':
+                return Token.BOOLEAN;
+            case 'n':
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    /**
+     * Checks whether the current array or object has another element.
+     *
+     * @return true if another element follows, false at the end of the container.
+     * @throws IOException if the stream cannot be read.
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_ARRAY && token != Token.END_OBJECT && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the start of an array.
+     *
+     * @throws IOException if the stream cannot be read or the next token is not '['.
+     */
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        pos++;
+        push(false);
+    }
+
+    /**
+     * Consumes the end of an array.
+     *
+     * @throws IOException if the stream cannot be read or the next token is not ']'.
+     */
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        pos++;
+        pop();
+    }
+
+    /**
+     * Consumes the start of an object.
+     *
+     * @throws IOException if the stream cannot be read or the next token is not '{'.
+     */
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        pos++;
+        push(true);
+    }
+
+    /**
+     * Consumes the end of an object.
+     *
+     * @throws IOException if the stream cannot be read or the next token is not '}'.
+     */
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        pos++;
+        pop();
+    }
+
+    /**
+     * Consumes the next property name of the current object.
+     *
+     * @return the property name.
+     * @throws IOException if the stream cannot be read or the next token is not a name.
+     */
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        pos++;
+        String name = readStringBody();
+        if (skipWhitespace() != ':') {
+            throw syntaxError("Expected ':' after name");
+        }
+        pos++;
+        expectName[depth - 1] = false;
+        needsSeparator = false;
+        return name;
+    }
+
+    /**
+     * Consumes the next string value.
+     *
+     * @return the string value.
+     * @throws IOException if the stream cannot be read or the next token is not a string.
+     */
+    public String nextString() throws IOException {
+        expect(Token.STRING);
+        pos++;
+        String value = readStringBody();
+        valueConsumed();
+        return value;
+    }
+
+    /**
+     * Consumes the next number value as an int.
+     *
+     * @return the int value.
+     * @throws IOException if the stream cannot be read or the next token is not an integer.
+     */
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw syntaxError("Number out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Consumes the next number value as a long.
+     *
+     * @return the long value.
+     * @throws IOException if the stream cannot be read, or the next token is not an integer or is out of range.
+     */
+    public long nextLong() throws IOException {
+        expect(Token.NUMBER);
+        boolean negative = buffer[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        // Accumulated as a negative number, which also reaches Long.MIN_VALUE
+        long value = 0;
+        int digits = 0;
+        while (fill()) {
+            byte b = buffer[pos];
+            if (b < '0' || b > '9') {
+                break;
+            }
+            if (value < (Long.MIN_VALUE + (b - '0')) / 10) {
+                throw syntaxError("Number out of long range");
+            }
+            value = value * 10 - (b - '0');
+            digits++;
+            pos++;
+        }
+        if (digits == 0) {
+            throw syntaxError("Expected digits");
+        }
+        if (fill() && (buffer[pos] == '.' || buffer[pos] == 'e' || buffer[pos] == 'E')) {
+            throw syntaxError("Expected an integer");
+        }
+        if (!negative && value == Long.MIN_VALUE) {
+            throw syntaxError("Number out of long range");
+        }
+        valueConsumed();
+        return negative ? value : -value;
+    }
+
+    /**
+     * Consumes the next boolean value.
+     *
+     * @return the boolean value.
+     * @throws IOException if the stream cannot be read or the next token is not a boolean.
+     */
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        boolean value = buffer[pos] == 't';
+        consumeLiteral(value ? "true" : "false");
+        valueConsumed();
+        return value;
+    }
+
+    /**
+     * Consumes the next null value.
+     *
+     * @throws IOException if the stream cannot be read or the next token is not null.
+     */
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        consumeLiteral("null");
+        valueConsumed();
+    }
+
+    /**
+     * Skips the next value, including all nested arrays and objects, without decoding it.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    public void skipValue() throws IOException {
+        Token token = peek();
+        switch (token) {
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    skipName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case NAME:
+                skipName();
+                break;
+            case STRING:
+                pos++;
+                skipStringBody();
+                valueConsumed();
+                break;
+            case NUMBER:
+                while (fill() && isNumberChar(buffer[pos])) {
+                    pos++;
+                }
+                valueConsumed();
+                break;
+            case BOOLEAN:
+                nextBoolean();
+                break;
+            case NULL:
+                nextNull();
+                break;
+            default:
+                throw syntaxError("Cannot skip " + token);
+        }
+    }
+
+    /**
+     * Reads the next value into the org.json representation: JSONObject, JSONArray, String, Number,
+     * Boolean or JSONObject.NULL.
+     *
+     * @return the value read.
+     * @throws IOException if the stream cannot be read.
+     */
+    public Object readValue() throws IOException {
+        Token token = peek();
+        switch (token) {
+            case BEGIN_ARRAY:
+                JSONArray array = new JSONArray();
+                beginArray();
+                while (hasNext()) {
+                    array.put(readValue());
+                }
+                endArray();
+                return array;
+            case BEGIN_OBJECT:
+                JSONObject object = new JSONObject();
+                beginObject();
+                while (hasNext()) {
+                    String name = nextName();
+                    object.put(name, readValue());
+                }
+                endObject();
+                return object;
+            case STRING:
+                return nextString();
+            case NUMBER:
+                return readNumber();
+            case BOOLEAN:
+                return nextBoolean();
+            case NULL:
+                nextNull();
+                return JSONObject.NULL;
+            default:
+                throw syntaxError("Unexpected " + token);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Object readNumber() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        while (fill() && isNumberChar(buffer[pos])) {
+            sb.append((char) buffer[pos++]);
+        }
+        valueConsumed();
+        try {
+            return JSONObject.stringToValue(sb.toString());
+        } catch (JSONException e) {
+            throw syntaxError("Malformed number " + sb);
+        }
+    }
+
+    private void skipName() throws IOException {
+        expect(Token.NAME);
+        pos++;
+        skipStringBody();
+        if (skipWhitespace() != ':') {
+            throw syntaxError("Expected ':' after name");
+        }
+        pos++;
+        expectName[depth - 1] = false;
+        needsSeparator = false;
+    }
+
+    private static boolean isNumberChar(byte b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token actual = peek();
+        if (actual != expected) {
+            throw syntaxError("Expected " + expected + " but was " + actual);
+        }
+    }
+
+    private void push(boolean object) {
+        if (depth == inObject.length) {
+            inObject = Arrays.copyOf(inObject, depth * 2);
+            expectName = Arrays.copyOf(expectName, depth * 2);
+        }
+        inObject[depth] = object;
+        expectName[depth] = object;
+        depth++;
+        needsSeparator = false;
+    }
+
+    private void pop() {
+        depth--;
+        valueConsumed();
+    }
+
+    private void valueConsumed() {
+        if (depth > 0 && inObject[depth - 1]) {
+            expectName[depth - 1] = true;
+        }
+        needsSeparator = depth > 0;
+    }
+
+    private void consumeLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (!fill() || buffer[pos] != literal.charAt(i)) {
+                throw syntaxError("Expected " + literal);
+            }
+            pos++;
+        }
+    }
+
+    private int skipWhitespaceAndSeparators() throws IOException {
+        int c = skipWhitespace();
+        if (needsSeparator && c == ',') {
+            pos++;
+            needsSeparator = false;
+            c = skipWhitespace();
+            if (c == ']' || c == '}') {
+                throw syntaxError("Trailing ',' before '" + (char) c + "'");
+            }
+        } else if (needsSeparator && c != ']' && c != '}' && c != -1) {
+            throw syntaxError("Expected ',' but was '" + (char) c + "'");
+        }
+        return c;
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (fill()) {
+            byte b = buffer[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return b;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    private boolean fill() throws IOException {
+        if (pos < limit) {
+            return true;
+        }
+        bufferStart += limit;
+        pos = 0;
+        limit = 0;
+        int read;
+        while ((read = in.read(buffer, 0, buffer.length)) == 0) {
+            // keep reading until data or end of stream
+        }
+        if (read < 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    private String readStringBody() throws IOException {
+        stringLength = 0;
+        while (true) {
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+            byte b = buffer[pos++];
+            if (b == '"') {
+                return new String(stringBytes, 0, stringLength, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                readEscape();
+            } else {
+                appendByte(b);
+            }
+        }
+    }
+
+    private void skipStringBody() throws IOException {
+        while (true) {
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+            byte b = buffer[pos++];
+            if (b == '"') {
+                return;
+            }
+            if (b == '\\') {
+                if (!fill()) {
+                    throw syntaxError("Unterminated escape");
+                }
+                pos++;
+            }
+        }
+    }
+
+    private void readEscape() throws IOException {
+        if (!fill()) {
+            throw syntaxError("Unterminated escape");
+        }
+        byte b = buffer[pos++];
+        switch (b) {
+            case 'n':
+                appendByte((byte) '\n');
+                break;
+            case 't':
+                appendByte((byte) '\t');
+                break;
+            case 'r':
+                appendByte((byte) '\r');
+                break;
+            case 'b':
+                appendByte((byte) '\b');
+                break;
+            case 'f':
+                appendByte((byte) '\f');
+                break;
+            case 'u':
+                int codePoint = readHex4();
+                if (Character.isHighSurrogate((char) codePoint) && fill() && buffer[pos] == '\\') {
+                    pos++;
+                    if (!fill() || buffer[pos] != 'u') {
+                        throw syntaxError("Expected low surrogate");
+                    }
+                    pos++;
+                    int low = readHex4();
+                    codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                }
+                appendCodePoint(codePoint);
+                break;
+            default:
+                // '"', '\\', '/' and any other escaped byte stand for themselves
+                appendByte(b);
+        }
+    }
+
+    private int readHex4() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            if (!fill()) {
+                throw syntaxError("Unterminated unicode escape");
+            }
+            int digit = Character.digit(buffer[pos++], 16);
+            if (digit < 0) {
+                throw syntaxError("Malformed unicode escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private void appendCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            appendByte((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            appendByte((byte) (0xC0 | (codePoint >> 6)));
+            appendByte((byte) (0x80 | (codePoint & 0x3F)));
+        } else if (codePoint < 0x10000) {
+            appendByte((byte) (0xE0 | (codePoint >> 12)));
+            appendByte((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            appendByte((byte) (0x80 | (codePoint & 0x3F)));
+        } else {
+            appendByte((byte) (0xF0 | (codePoint >> 18)));
+            appendByte((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            appendByte((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            appendByte((byte) (0x80 | (codePoint & 0x3F)));
+        }
+    }
+
+    private void appendByte(byte b) {
+        if (stringLength == stringBytes.length) {
+            stringBytes = Arrays.copyOf(stringBytes, stringLength * 2);
+        }
+        stringBytes[stringLength++] = b;
+    }
+
+    private MalformedJsonException syntaxError(String message) {
+        return new MalformedJsonException(message + " at byte " + (bufferStart + pos));
+    }
+}
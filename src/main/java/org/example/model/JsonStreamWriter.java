@@ -0,0 +1,302 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The JsonStreamWriter class writes JSON token by token as UTF-8 straight into a byte stream, the
+ * counterpart of {@link JsonStreamReader}. Records are encoded as they are written, so saving a large
+ * array never builds the document as a String or a byte array first.
+ */
+public class JsonStreamWriter implements Closeable, Flushable {
+
+    /**
+     * Content that writes itself to a JsonStreamWriter, such as a whole JSON file.
+     */
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * Writes the content.
+         *
+         * @param writer the writer to write to.
+         * @throws IOException if the content cannot be written.
+         */
+        void writeTo(JsonStreamWriter writer) throws IOException;
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer out;
+
+    // One entry per open container: true for objects, which expect a name before each value.
+    private boolean[] inObject = new boolean[16];
+    private int depth;
+    private boolean needsSeparator;
+    private boolean afterName;
+
+    /**
+     * Constructs a new JsonStreamWriter over the given stream.
+     *
+     * @param out the stream receiving UTF-8 encoded JSON.
+     */
+    public JsonStreamWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes the start of an array.
+     *
+     * @return this writer.
+     * @throws IOException if the stream cannot be written.
+     */
+    public JsonStreamWriter beginArray() throws IOException {
+        beforeValue();
+        out.write('[');
+        push(false);
+        return this;
+    }
+
+    /**
+     * Writes the end of the current array.
+     *
+     * @return this writer.
+     * @throws IOException if the stream cannot be written or no array is open.
+     */
+    public JsonStreamWriter endArray() throws IOException {
+        pop(false);
+        out.write(']');
+        return this;
+    }
+
+    /**
+     * Writes the start of an object.
+     *
+     * @return this writer.
+     * @throws IOException if the stream cannot be written.
+     */
+    public JsonStreamWriter beginObject() throws IOException {
+        beforeValue();
+        out.write('{');
+        push(true);
+        return this;
+    }
+
+    /**
+     * Writes the end of the current object.
+     *
+     * @return this writer.
+     * @throws IOException if the stream cannot be written or no object is open.
+     */
+    public JsonStreamWriter endObject() throws IOException {
+        if (afterName) {
+            throw new IOException("Name without a value");
+        }
+        pop(true);
+        out.write('}');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name the member name.
+     * @return this writer.
+     * @throws IOException if the stream cannot be written or no object expects a name.
+     */
+    public JsonStreamWriter name(String name) throws IOException {
+        if (depth == 0 || !inObject[depth - 1] || afterName) {
+            throw new IOException("Unexpected name " + name);
+        }
+        if (needsSeparator) {
+            out.write(',');
+        }
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value.
+     *
+     * @param value the string, or null for a JSON null.
+     * @return this writer.
+     * @throws IOException if the stream cannot be written.
+     */
+    public JsonStreamWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * Writes an integer value.
+     *
+     * @param value the number.
+     * @return this writer.
+     * @throws IOException if the stream cannot be written.
+     */
+    public JsonStreamWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value the boolean.
+     * @return this writer.
+     * @throws IOException if the stream cannot be written.
+     */
+    public JsonStreamWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a null value.
+     *
+     * @return this writer.
+     * @throws IOException if the stream cannot be written.
+     */
+    public JsonStreamWriter nullValue() throws IOException {
+        beforeValue();
+        out.write("null");
+        return this;
+    }
+
+    /**
+     * Writes a value in the org.json representation: JSONObject, JSONArray, String, Number, Boolean or
+     * JSONObject.NULL. Nested arrays and objects are written element by element.
+     *
+     * @param value the value to write.
+     * @return this writer.
+     * @throws IOException if the stream cannot be written or the value has no JSON representation.
+     */
+    public JsonStreamWriter value(Object value) throws IOException {
+        if (value == null || value == JSONObject.NULL) {
+            return nullValue();
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            beginArray();
+            for (int i = 0; i < array.length(); i++) {
+                value(array.opt(i));
+            }
+            return endArray();
+        }
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            beginObject();
+            for (String key : object.keySet()) {
+                name(key);
+                value(object.opt(key));
+            }
+            return endObject();
+        }
+        if (value instanceof String) {
+            return value((String) value);
+        }
+        if (value instanceof Boolean) {
+            return value(((Boolean) value).booleanValue());
+        }
+        if (value instanceof Number) {
+            beforeValue();
+            out.write(JSONObject.numberToString((Number) value));
+            return this;
+        }
+        throw new IOException("Cannot write " + value.getClass().getName() + " as JSON");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Flushes the buffered output and closes the underlying stream.
+     *
+     * @throws IOException if the stream cannot be written or a container is still open.
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+        if (depth > 0) {
+            throw new IOException("Unclosed " + (inObject[depth - 1] ? "object" : "array"));
+        }
+    }
+
+    private void beforeValue() throws IOException {
+        if (depth > 0 && inObject[depth - 1]) {
+            if (!afterName) {
+                throw new IOException("Expected a name before the value");
+            }
+            afterName = false;
+        } else if (depth == 0 && needsSeparator) {
+            throw new IOException("Only one top-level value is allowed");
+        } else if (needsSeparator) {
+            out.write(',');
+        }
+        needsSeparator = true;
+    }
+
+    private void push(boolean object) {
+        if (depth == inObject.length) {
+            inObject = Arrays.copyOf(inObject, depth * 2);
+        }
+        inObject[depth++] = object;
+        needsSeparator = false;
+    }
+
+    private void pop(boolean object) throws IOException {
+        if (depth == 0 || inObject[depth - 1] != object) {
+            throw new IOException("No open " + (object ? "object" : "array") + " to end");
+        }
+        depth--;
+        needsSeparator = true;
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape;
+            if (c == '"') {
+                escape = "\\\"";
+            } else if (c == '\\') {
+                escape = "\\\\";
+            } else if (c == '\n') {
+                escape = "\\n";
+            } else if (c == '\r') {
+                escape = "\\r";
+            } else if (c == '\t') {
+                escape = "\\t";
+            } else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                escape = String.format("\\u%04x", (int) c);
+            } else {
+                continue;
+            }
+            out.write(value, start, i - start);
+            out.write(escape);
+            start = i + 1;
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
@@ -1,33 +1,71 @@
 package org.example.model;
 
 import org.json.JSONArray;
-import org.json.JSONException;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * The JsonUtils class provides utility methods for reading and writing JSON data to and from files.
+ * Files are replaced atomically: the data is written to a temporary file next to the target and moved over
+ * it, so a crash leaves either the old or the new file, never a truncated one. The previous version is kept
+ * as {@code <file>.bak} and read instead when the file itself cannot be parsed.
+ * In durable mode every write is also flushed to the disk before it returns. Concurrent writes of the same
+ * file are committed as a group: a writer that finds a newer version already queued leaves it to the writer
+ * holding the file, so a burst of saves costs one write and one flush.
  * @author Abdulkarim Khalili
  */
 public class JsonUtils {
+    private static final Map<Path, FileState> FILE_STATES = new ConcurrentHashMap<>();
+    private static volatile boolean durable = Boolean.getBoolean("flashcards.durable");
 
     /**
      * Reads a JSON file from the specified file path.
+     * The file is parsed straight from a buffered stream, without reading it into a String first.
+     * When the file is missing, blank or damaged and a backup of its previous version exists, the backup is read.
      * @param filePath the path to the JSON file.
      * @return a JSONArray containing the data from the file.
      */
     public static JSONArray readJsonFile(String filePath) {
+        Path backupPath = backupPath(Paths.get(filePath));
+        JSONArray jsonArray = new JSONArray();
         try {
-            String jsonData = new String(Files.readAllBytes(Paths.get(filePath)));
-            if (jsonData.trim().isEmpty()) {
-                return new JSONArray();
+            int count = readJsonRecords(Paths.get(filePath), jsonArray::put);
+            if (count == 0 && Files.exists(backupPath) && isBlank(Paths.get(filePath))) {
+                return readBackup(backupPath);
             }
-            return new JSONArray(jsonData);
-        } catch (IOException | JSONException e) {
+            return jsonArray;
+        } catch (IOException e) {
             System.err.println("Error reading JSON file: " + e.getMessage());
-            return new JSONArray();
+            return Files.exists(backupPath) ? readBackup(backupPath) : new JSONArray();
+        }
+    }
+
+    /**
+     * Reads the elements of a JSON array file one at a time, so a caller that keeps only part of each
+     * record never holds the whole file in memory. Unlike {@link #readJsonFile(String)}, there is no
+     * fallback to the backup, since records of a damaged file may already have been passed on.
+     * @param filePath the path to the JSON file.
+     * @param consumer the consumer receiving each element, in the org.json representation.
+     * @return the number of elements read, or -1 if the file could not be read to the end.
+     */
+    public static int readJsonRecords(String filePath, Consumer<Object> consumer) {
+        try {
+            return readJsonRecords(Paths.get(filePath), consumer);
+        } catch (IOException e) {
+            System.err.println("Error reading JSON file: " + e.getMessage());
+            return -1;
         }
     }
 
@@ -47,15 +85,249 @@ public class JsonUtils {
     }
 
     /**
-     * Writes a JSONArray to a file at the specified path.
+     * Writes a JSONArray to a file at the specified path, atomically replacing the previous version.
+     * Flushes the file to the disk if durable mode is on.
      * @param filePath  the path to the file.
      * @param jsonArray the JSONArray to write.
      */
     public static void writeJsonFile(String filePath, JSONArray jsonArray) {
+        writeJsonFile(filePath, jsonArray, durable);
+    }
+
+    /**
+     * Writes a JSONArray to a file at the specified path, atomically replacing the previous version.
+     * @param filePath  the path to the file.
+     * @param jsonArray the JSONArray to write.
+     * @param sync      true to flush the file to the disk before returning.
+     */
+    public static void writeJsonFile(String filePath, JSONArray jsonArray, boolean sync) {
+        writeJsonFile(filePath, writer -> writer.value(jsonArray), sync);
+    }
+
+    /**
+     * Streams JSON content to a file at the specified path, atomically replacing the previous version.
+     * The content is encoded as UTF-8 while it is written, so memory use does not grow with the file size.
+     * A content superseded by a newer one for the same file before its turn to be written is never run.
+     * @param filePath the path to the file.
+     * @param content  the content to write.
+     * @param sync     true to flush the file to the disk before returning.
+     */
+    public static void writeJsonFile(String filePath, JsonStreamWriter.Content content, boolean sync) {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        FileState state = FILE_STATES.computeIfAbsent(path, p -> new FileState());
+        long ticket;
+        synchronized (state) {
+            ticket = ++state.queued;
+            state.latest = content;
+            state.sync |= sync;
+        }
+        synchronized (state.writeLock) {
+            JsonStreamWriter.Content data;
+            long version;
+            boolean syncNow;
+            boolean replacesOwnWrite;
+            synchronized (state) {
+                if (state.committed >= ticket) {
+                    return;
+                }
+                data = state.latest;
+                version = state.queued;
+                syncNow = state.sync;
+                replacesOwnWrite = state.committed > 0;
+                state.latest = null;
+                state.sync = false;
+            }
+            try {
+                replace(path, data, syncNow, replacesOwnWrite);
+                synchronized (state) {
+                    state.committed = version;
+                }
+            } catch (IOException e) {
+                System.err.println("Error writing JSON file: " + e.getMessage());
+                synchronized (state) {
+                    if (state.latest == null) {
+                        state.latest = data;
+                    }
+                    state.sync |= syncNow;
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns durable mode on or off. It starts on when the {@code flashcards.durable} system property is true.
+     * @param enabled true to flush every write to the disk.
+     */
+    public static void setDurable(boolean enabled) {
+        durable = enabled;
+    }
+
+    /**
+     * Checks whether durable mode is on.
+     * @return true if every write is flushed to the disk.
+     */
+    public static boolean isDurable() {
+        return durable;
+    }
+
+    /**
+     * Replaces a file with new content through a temporary file, keeping the current version as a backup.
+     * @param path          the absolute path of the file.
+     * @param content       the new content.
+     * @param sync          true to flush the content and the directory entry to the disk.
+     * @param currentIsGood true if the current version was written by this class and need not be checked.
+     * @throws IOException if the file cannot be replaced.
+     */
+    private static void replace(Path path, JsonStreamWriter.Content content, boolean sync, boolean currentIsGood)
+            throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            JsonStreamWriter writer = new JsonStreamWriter(Channels.newOutputStream(channel));
+            content.writeTo(writer);
+            writer.flush();
+            if (sync) {
+                channel.force(true);
+            }
+        }
+        keepBackup(path, currentIsGood);
+        moveIntoPlace(tempPath, path);
+        if (sync) {
+            syncDirectory(path.getParent());
+        }
+    }
+
+    /**
+     * Keeps the current version of a file as its backup, unless it is empty or cannot be parsed, in which
+     * case the older backup is worth more. The backup is a hard link where the file system allows it, so
+     * the file itself stays in place until the new version is moved over it.
+     * @param path          the absolute path of the file.
+     * @param currentIsGood true if the current version was written by this class and need not be checked.
+     * @throws IOException if the backup cannot be written.
+     */
+    private static void keepBackup(Path path, boolean currentIsGood) throws IOException {
+        if (!currentIsGood) {
+            try {
+                if (readJsonRecords(path, record -> { }) == 0 && isBlank(path)) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Missing or damaged: the older backup is the last good version
+                return;
+            }
+        }
+        linkBackup(path);
+    }
+
+    /**
+     * Makes the current version of a file its backup, as a hard link where the file system allows it and
+     * as a copy otherwise.
+     * @param path the path of the file.
+     * @throws IOException if the backup cannot be written.
+     */
+    static void linkBackup(Path path) throws IOException {
+        Path backupPath = backupPath(path);
+        Files.deleteIfExists(backupPath);
+        try {
+            Files.createLink(backupPath, path);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(path, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves a fully written temporary file over its target, atomically where the file system allows it,
+     * so readers see either the old or the new version and never half a file.
+     * @param tempPath the temporary file, in the directory of the target.
+     * @param path     the file to replace.
+     * @throws IOException if the file cannot be moved.
+     */
+    static void moveIntoPlace(Path tempPath, Path path) throws IOException {
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes a directory so a file just moved into it survives a crash. Not every platform allows this.
+     * @param directory the directory to flush.
+     */
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened for flushing on every platform; the file itself is flushed
+        }
+    }
+
+    /**
+     * Reads the backup of a file after the file itself could not be read.
+     * @param backupPath the path of the backup.
+     * @return the data of the backup, or an empty array if it cannot be read either.
+     */
+    private static JSONArray readBackup(Path backupPath) {
         try {
-            Files.write(Paths.get(filePath), jsonArray.toString().getBytes());
+            JSONArray jsonArray = new JSONArray();
+            readJsonRecords(backupPath, jsonArray::put);
+            System.err.println("Recovered JSON file from backup: " + backupPath);
+            return jsonArray;
         } catch (IOException e) {
-            System.err.println("Error writing JSON file: " + e.getMessage());
+            System.err.println("Error reading JSON backup file: " + e.getMessage());
+            return new JSONArray();
+        }
+    }
+
+    /**
+     * Streams the elements of a JSON array file. A blank file holds no elements.
+     * @param path     the path to the JSON file.
+     * @param consumer the consumer receiving each element.
+     * @return the number of elements read.
+     * @throws IOException if the file cannot be read or is not a complete JSON array.
+     */
+    private static int readJsonRecords(Path path, Consumer<Object> consumer) throws IOException {
+        try (JsonStreamReader reader = new JsonStreamReader(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (reader.peek() == JsonStreamReader.Token.END_DOCUMENT) {
+                return 0;
+            }
+            int count = 0;
+            reader.beginArray();
+            while (reader.hasNext()) {
+                consumer.accept(reader.readValue());
+                count++;
+            }
+            reader.endArray();
+            if (reader.peek() != JsonStreamReader.Token.END_DOCUMENT) {
+                throw new IOException("Unexpected data after the JSON array in " + path);
+            }
+            return count;
         }
     }
+
+    private static boolean isBlank(Path path) throws IOException {
+        try (JsonStreamReader reader = new JsonStreamReader(new BufferedInputStream(Files.newInputStream(path)))) {
+            return reader.peek() == JsonStreamReader.Token.END_DOCUMENT;
+        }
+    }
+
+    /**
+     * Gets the path of the backup of a file.
+     * @param path the path of the file.
+     * @return the path of the backup next to it.
+     */
+    static Path backupPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".bak");
+    }
+
+    /**
+     * The write queue of one file: the newest data waiting to be written and how far writing has got.
+     */
+    private static final class FileState {
+        final Object writeLock = new Object();
+        JsonStreamWriter.Content latest;
+        boolean sync;
+        long queued;
+        long committed;
+    }
 }
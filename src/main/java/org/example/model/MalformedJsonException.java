@@ -0,0 +1,20 @@
+package org.example.model;
+
+import java.io.IOException;
+
+/**
+ * The MalformedJsonException class signals a JSON document that is not valid JSON or lacks a field the
+ * application needs, as opposed to a file that cannot be read. The loaders turn it into the JSONException
+ * org.json throws for the same documents, so a malformed data file fails instead of loading partially.
+ */
+public class MalformedJsonException extends IOException {
+
+    /**
+     * Constructs a new MalformedJsonException.
+     *
+     * @param message the description of the problem, with its position where known.
+     */
+    public MalformedJsonException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,392 @@
+package org.example.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The MultiUserProgressStore class keeps the completion state of items for many users at once, for a
+ * shared deployment such as the quiz server. Each user has a bitset over item ids, and each user's bits
+ * are saved to their own file in the store directory, in the format of {@link ProgressStore}.
+ * Reads take no lock: a user's bits are an {@link AtomicLongArray} published through a volatile field.
+ * Completions lock one of a fixed set of stripes chosen by the user, so users on different stripes never
+ * contend. Changed users are saved in batches on a {@link WriteBehindService}, so a burst of completions
+ * costs one write per user.
+ * At most a fixed number of users are kept in memory: past that, users whose changes are all saved are
+ * dropped and read again from their file when next seen. Item ids come from a persisted table of item
+ * names, so they never move when items are reordered.
+ */
+public class MultiUserProgressStore implements AutoCloseable {
+    /** The number of users kept in memory when none is given. */
+    public static final int DEFAULT_MAX_CACHED_USERS = 10_000;
+    /**
+     * The longest user name accepted, in UTF-8 bytes, so the name of the user's file stays within file system
+     * limits. Longer names are rejected with an {@link IllegalArgumentException}.
+     */
+    public static final int MAX_USER_BYTES = 128;
+    static final int STRIPES = 64;
+    private static final char[] BASE32_DIGITS = "abcdefghijklmnopqrstuvwxyz234567".toCharArray();
+    // Base32 file names never contain a dot, so the table never clashes with a user's file
+    private static final String ITEM_IDS_BASE = "items.index";
+
+    private final Path directory;
+    private final ConcurrentMap<String, UserBits> users = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[STRIPES];
+    private final WriteBehindService writer;
+    private final int maxCachedUsers;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private ProgressStore itemIds;
+
+    /**
+     * Constructs a MultiUserProgressStore saving to the given directory with the default write-behind delay.
+     *
+     * @param directory the directory holding one file per user; created on the first save.
+     */
+    public MultiUserProgressStore(String directory) {
+        this(directory, WriteBehindService.DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a MultiUserProgressStore saving to the given directory.
+     *
+     * @param directory   the directory holding one file per user; created on the first save.
+     * @param delayMillis how long changes wait to be saved together, in milliseconds.
+     */
+    public MultiUserProgressStore(String directory, long delayMillis) {
+        this(directory, delayMillis, DEFAULT_MAX_CACHED_USERS);
+    }
+
+    /**
+     * Constructs a MultiUserProgressStore saving to the given directory and keeping a bounded number of users
+     * in memory.
+     *
+     * @param directory      the directory holding one file per user; created on the first save.
+     * @param delayMillis    how long changes wait to be saved together, in milliseconds.
+     * @param maxCachedUsers how many users are kept in memory before saved ones are dropped.
+     */
+    public MultiUserProgressStore(String directory, long delayMillis, int maxCachedUsers) {
+        this.directory = Paths.get(directory);
+        this.writer = new WriteBehindService(delayMillis);
+        this.maxCachedUsers = maxCachedUsers;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Gets the ids of items by name, assigning the next free ids to names seen for the first time and saving
+     * them before returning, so an id recorded for any user always means the same item.
+     *
+     * @param names the names of the items.
+     * @return the id of each item, in the order of the names.
+     */
+    public synchronized int[] itemIds(List<String> names) {
+        if (itemIds == null) {
+            itemIds = new ProgressStore(directory.resolve(ITEM_IDS_BASE).toString());
+            itemIds.load();
+        }
+        int known = itemIds.size();
+        int[] result = new int[names.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = itemIds.id(names.get(i), 0);
+        }
+        if (itemIds.size() > known) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                System.err.println("Error creating progress directory: " + e.getMessage());
+            }
+            itemIds.save();
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a user has completed an item. Takes no lock.
+     *
+     * @param user the user.
+     * @param item the id of the item.
+     * @return true if the user has completed the item.
+     */
+    public boolean isDone(String user, int item) {
+        AtomicLongArray words = bits(user).words;
+        int word = item >>> 6;
+        return word < words.length() && (words.get(word) & (1L << item)) != 0;
+    }
+
+    /**
+     * Marks an item as completed by a user and schedules the user's bits to be saved.
+     *
+     * @param user the user.
+     * @param item the id of the item.
+     * @return true if the item was not completed before.
+     */
+    public boolean complete(String user, int item) {
+        return update(user, item, true);
+    }
+
+    /**
+     * Marks an item as not completed by a user and schedules the user's bits to be saved.
+     *
+     * @param user the user.
+     * @param item the id of the item.
+     * @return true if the item was completed before.
+     */
+    public boolean reset(String user, int item) {
+        return update(user, item, false);
+    }
+
+    /**
+     * Counts the items a user has completed. Takes no lock.
+     *
+     * @param user the user.
+     * @return the number of completed items.
+     */
+    public int doneCount(String user) {
+        AtomicLongArray words = bits(user).words;
+        int count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    /**
+     * Saves every pending change now, on the calling thread.
+     */
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Retrieves the counters of the batched writes.
+     *
+     * @return a snapshot of the pending, submitted and coalesced saves and of the flush latency.
+     */
+    public WriteBehindStats writeStats() {
+        return writer.stats();
+    }
+
+    /**
+     * Saves every pending change and stops the write-behind thread.
+     */
+    @Override
+    public void close() {
+        writer.close();
+    }
+
+    /**
+     * Sets or clears one bit of a user under the user's stripe lock, growing the bits when needed.
+     *
+     * @param user      the user.
+     * @param item      the id of the item.
+     * @param completed true to mark the item as completed, false to clear it.
+     * @return true if the bit changed.
+     */
+    private boolean update(String user, int item, boolean completed) {
+        if (item < 0) {
+            throw new IllegalArgumentException("Negative item id: " + item);
+        }
+        UserBits bits = bits(user);
+        boolean changed;
+        synchronized (locks[Math.floorMod(user.hashCode(), STRIPES)]) {
+            while (bits.evicted) {
+                bits = users.computeIfAbsent(user, this::load);
+            }
+            int word = item >>> 6;
+            long mask = 1L << item;
+            if (word >= bits.words.length()) {
+                if (!completed) {
+                    return false;
+                }
+                AtomicLongArray grown = new AtomicLongArray(Math.max(word + 1, bits.words.length() * 2));
+                for (int i = 0; i < bits.words.length(); i++) {
+                    grown.set(i, bits.words.get(i));
+                }
+                bits.words = grown;
+            }
+            long old = bits.words.get(word);
+            long updated = completed ? old | mask : old & ~mask;
+            changed = old != updated;
+            if (changed) {
+                bits.words.set(word, updated);
+                bits.version++;
+            }
+        }
+        if (changed) {
+            UserBits changedBits = bits;
+            writer.submit(user, () -> save(user, changedBits));
+        }
+        return changed;
+    }
+
+    /**
+     * Gets the bits of a user, loading them from disk the first time the user is seen.
+     *
+     * @param user the user.
+     * @return the user's bits.
+     */
+    private UserBits bits(String user) {
+        UserBits bits = users.get(user);
+        if (bits != null) {
+            return bits;
+        }
+        if (user.getBytes(StandardCharsets.UTF_8).length > MAX_USER_BYTES) {
+            throw new IllegalArgumentException("User name longer than " + MAX_USER_BYTES + " bytes");
+        }
+        bits = users.computeIfAbsent(user, this::load);
+        if (users.size() > maxCachedUsers) {
+            evictSaved();
+        }
+        return bits;
+    }
+
+    /**
+     * Drops users whose changes are all saved until a quarter of the cache is free, or every saved user is gone.
+     * A dropped user is marked under the user's stripe lock, so a completion racing with the eviction retries
+     * on the bits read back from the file instead of changing bits nobody will save.
+     */
+    private void evictSaved() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxCachedUsers - maxCachedUsers / 4;
+            for (String user : users.keySet()) {
+                if (users.size() <= target) {
+                    break;
+                }
+                synchronized (locks[Math.floorMod(user.hashCode(), STRIPES)]) {
+                    UserBits bits = users.get(user);
+                    if (bits != null && bits.version == bits.savedVersion) {
+                        bits.evicted = true;
+                        users.remove(user, bits);
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Gets the number of users held in memory.
+     *
+     * @return the number of cached users.
+     */
+    int cachedUsers() {
+        return users.size();
+    }
+
+    /**
+     * Reads the saved bits of a user.
+     *
+     * @param user the user.
+     * @return the user's bits, empty if none were saved or they cannot be read.
+     */
+    private UserBits load(String user) {
+        UserBits bits = new UserBits();
+        try {
+            bits.words = new AtomicLongArray(ProgressStore.readBits(path(user)));
+        } catch (NoSuchFileException e) {
+            try {
+                bits.words = new AtomicLongArray(ProgressStore.readBits(legacyPath(user)));
+            } catch (NoSuchFileException legacy) {
+                // A user without saved progress
+            } catch (IOException legacy) {
+                System.err.println("Error reading progress of user " + user + ": " + legacy.getMessage());
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading progress of user " + user + ": " + e.getMessage());
+        }
+        return bits;
+    }
+
+    /**
+     * Writes a copy of a user's bits, taken under the user's stripe lock, to the user's file.
+     *
+     * @param user the user.
+     * @param bits the user's bits.
+     */
+    private void save(String user, UserBits bits) {
+        long[] words;
+        long version;
+        synchronized (locks[Math.floorMod(user.hashCode(), STRIPES)]) {
+            version = bits.version;
+            AtomicLongArray current = bits.words;
+            words = new long[current.length()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = current.get(i);
+            }
+        }
+        try {
+            Files.createDirectories(directory);
+            ProgressStore.writeBits(path(user), words, words.length * 64, false);
+            Files.deleteIfExists(legacyPath(user));
+            synchronized (locks[Math.floorMod(user.hashCode(), STRIPES)]) {
+                bits.savedVersion = Math.max(bits.savedVersion, version);
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving progress of user " + user + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the file of a user. The name is the lowercase Base32 of the UTF-8 user name, so any name is a valid
+     * file name, and two users never share a file on a case-insensitive file system.
+     * A name of {@link #MAX_USER_BYTES} bytes gives a file name of 210 characters.
+     *
+     * @param user the user.
+     * @return the path of the user's bits file.
+     */
+    Path path(String user) {
+        byte[] bytes = user.getBytes(StandardCharsets.UTF_8);
+        StringBuilder name = new StringBuilder((bytes.length * 8 + 4) / 5 + 5);
+        int buffer = 0;
+        int bits = 0;
+        for (byte b : bytes) {
+            buffer = (buffer << 8) | (b & 0xFF);
+            bits += 8;
+            while (bits >= 5) {
+                bits -= 5;
+                name.append(BASE32_DIGITS[(buffer >>> bits) & 31]);
+            }
+        }
+        if (bits > 0) {
+            name.append(BASE32_DIGITS[(buffer << (5 - bits)) & 31]);
+        }
+        return directory.resolve(name.append(".bits").toString());
+    }
+
+    /**
+     * Gets the file a user's bits were saved to before file names became case-insensitive: the URL-safe
+     * Base64 of the user name. It is read when the user has no current file, and removed on the next save.
+     *
+     * @param user the user.
+     * @return the path of the user's old bits file.
+     */
+    private Path legacyPath(String user) {
+        String name = Base64.getUrlEncoder().withoutPadding().encodeToString(user.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(name + ".bits");
+    }
+
+    /**
+     * The completion bits of one user. The array is replaced, never shrunk, when an item beyond it completes.
+     * The versions count changes and are guarded by the user's stripe lock.
+     */
+    private static final class UserBits {
+        volatile AtomicLongArray words = new AtomicLongArray(0);
+        long version;
+        long savedVersion;
+        boolean evicted;
+    }
+}
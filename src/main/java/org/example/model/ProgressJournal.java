@@ -0,0 +1,105 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The ProgressJournal class reads progress saved in the older JSON format, so it can be migrated into a
+ * {@link ProgressStore}. That format is the JSON array of button states written by the controller, plus every
+ * change after it appended to {@code <snapshot>.journal} as one line holding a single state object.
+ * A state object has a "text", an "icon" and an "n" field with the occurrence of the title it belongs to;
+ * snapshot entries without "n" are numbered in order of appearance.
+ */
+public class ProgressJournal {
+    private final Path snapshotPath;
+    private final Path journalPath;
+
+    /**
+     * Constructs a ProgressJournal for the given snapshot file.
+     *
+     * @param snapshotPath the path of the JSON state snapshot.
+     */
+    public ProgressJournal(String snapshotPath) {
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.journalPath = Paths.get(snapshotPath + ".journal");
+    }
+
+    /**
+     * Loads the snapshot and replays the journal over it. The snapshot is streamed record by record, and read
+     * through its backup if it turns out to be damaged.
+     * A later record for the same title and occurrence replaces the earlier state. Lines that cannot be
+     * parsed, such as a record cut short by a crash, are skipped.
+     *
+     * @return the current button states, each with an explicit "n", in snapshot order followed by buttons
+     *         first seen in the journal.
+     */
+    public JSONArray load() {
+        Map<String, JSONObject> states = new LinkedHashMap<>();
+        Map<String, Integer> occurrences = new HashMap<>();
+        Consumer<Object> snapshotReader = record -> {
+            if (record instanceof JSONObject && ((JSONObject) record).has("text")) {
+                JSONObject state = (JSONObject) record;
+                int next = occurrences.getOrDefault(state.getString("text"), 0);
+                int occurrence = state.optInt("n", next);
+                occurrences.put(state.getString("text"), occurrence + 1);
+                put(states, state, occurrence);
+            }
+        };
+        if (Files.exists(snapshotPath) && JsonUtils.readJsonRecords(snapshotPath.toString(), snapshotReader) < 0) {
+            states.clear();
+            occurrences.clear();
+            JsonUtils.readJsonFile(snapshotPath.toString()).forEach(snapshotReader);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JSONObject state = new JSONObject(line);
+                    put(states, state, state.optInt("n", 0));
+                } catch (JSONException e) {
+                    System.err.println("Skipping damaged progress journal record: " + e.getMessage());
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // No changes after the snapshot
+        } catch (IOException e) {
+            System.err.println("Error reading progress journal: " + e.getMessage());
+        }
+
+        JSONArray merged = new JSONArray();
+        states.values().forEach(merged::put);
+        return merged;
+    }
+
+    /**
+     * Stores a state under its title and occurrence, replacing any earlier state for the same button.
+     *
+     * @param states     the states by title and occurrence.
+     * @param state      the state to store.
+     * @param occurrence the occurrence of the title the state belongs to.
+     */
+    private static void put(Map<String, JSONObject> states, JSONObject state, int occurrence) {
+        JSONObject normalized = new JSONObject();
+        normalized.put("text", state.getString("text"));
+        normalized.put("n", occurrence);
+        normalized.put("icon", state.optString("icon", "gray"));
+        states.put(state.getString("text") + '\u0000' + occurrence, normalized);
+    }
+}
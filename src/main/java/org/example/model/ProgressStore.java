@@ -0,0 +1,425 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ProgressStore class keeps the completion state of cards or quiz categories as one bit per item.
+ * Every item gets a stable integer id the first time it is seen, identified by its title and by which
+ * occurrence of that title it is, so ids never move when the deck is reordered or items are added.
+ * Three files are kept next to each other:
+ * <ul>
+ *     <li>{@code <base>.ids}, the append-only list of item keys in id order, each a length and UTF-8 bytes,
+ *     written only when new items appear;</li>
+ *     <li>{@code <base>.bits}, the completion bits, a header and one long per 64 ids, replaced atomically;</li>
+ *     <li>{@code <base>.log}, the append-only journal of the bits changed since, one int per change holding
+ *     the id, or its complement when the item was reset.</li>
+ * </ul>
+ * A save appends four bytes per changed item to the journal, however large the deck. Once the journal
+ * holds more than {@link #MIN_COMPACTION_RECORDS} changes and one per 32 items, it is compacted: the bits
+ * file is rewritten and the journal emptied, so replaying the journal on load never costs more than
+ * reading the bits. All methods are synchronized, so the store can be saved from a background thread.
+ */
+public class ProgressStore {
+    private static final int MAGIC = 0x50524731; // "PRG1"
+    private static final int HEADER_BYTES = 8;
+    static final int MIN_COMPACTION_RECORDS = 1024;
+
+    private final String basePath;
+    private final Path idsPath;
+    private final Path bitsPath;
+    private final Path logPath;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> pendingKeys = new ArrayList<>();
+    private final List<Integer> pendingChanges = new ArrayList<>();
+    private BitSet done = new BitSet();
+    private int idCount;
+    private long validIdsBytes;
+    private long validLogBytes;
+    private boolean compactPending = true;
+
+    /**
+     * Constructs a ProgressStore for the given base path. Nothing is read until {@link #load()}.
+     *
+     * @param basePath the path of the store files without their extension.
+     */
+    public ProgressStore(String basePath) {
+        this.basePath = basePath;
+        this.idsPath = Paths.get(basePath + ".ids");
+        this.bitsPath = Paths.get(basePath + ".bits");
+        this.logPath = Paths.get(basePath + ".log");
+    }
+
+    /**
+     * Checks whether the store has been saved before.
+     *
+     * @return true if the id file exists.
+     */
+    public synchronized boolean exists() {
+        return Files.exists(idsPath);
+    }
+
+    /**
+     * Loads the ids and the completion bits and replays the journal over them, replacing anything held in
+     * memory. A key or change cut short by a crash at the end of its file is dropped, as are bits of ids the
+     * id file does not list.
+     */
+    public synchronized void load() {
+        ids.clear();
+        pendingKeys.clear();
+        pendingChanges.clear();
+        done = new BitSet();
+        idCount = 0;
+        validIdsBytes = 0;
+        validLogBytes = 0;
+        compactPending = true;
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(idsPath));
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    break;
+                }
+                String key = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                ids.putIfAbsent(key, idCount++);
+                validIdsBytes = buffer.position();
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            System.err.println("Error reading progress ids: " + e.getMessage());
+        }
+
+        try {
+            done = BitSet.valueOf(readBits(bitsPath));
+            done.clear(idCount, Math.max(idCount, done.length()));
+            compactPending = false;
+        } catch (NoSuchFileException e) {
+            // Ids were saved but no item has been completed yet
+        } catch (IOException e) {
+            System.err.println("Error reading progress bits: " + e.getMessage());
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(logPath));
+            while (buffer.remaining() >= Integer.BYTES) {
+                int change = buffer.getInt();
+                int id = change >= 0 ? change : ~change;
+                if (id < idCount) {
+                    done.set(id, change >= 0);
+                }
+            }
+            validLogBytes = buffer.position();
+        } catch (NoSuchFileException e) {
+            // Nothing changed since the bits were written
+        } catch (IOException e) {
+            System.err.println("Error reading progress journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the id of an item, assigning the next free id to an item seen for the first time.
+     *
+     * @param title      the title of the item.
+     * @param occurrence which item with that title it is, 0 for the first.
+     * @return the stable id of the item.
+     */
+    public synchronized int id(String title, int occurrence) {
+        String key = title + '\u0000' + occurrence;
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = idCount++;
+            ids.put(key, id);
+            pendingKeys.add(key);
+        }
+        return id;
+    }
+
+    /**
+     * Checks whether an item is completed.
+     *
+     * @param id the id of the item.
+     * @return true if the item is completed.
+     */
+    public synchronized boolean isDone(int id) {
+        return done.get(id);
+    }
+
+    /**
+     * Marks an item as completed or not.
+     *
+     * @param id        the id of the item.
+     * @param completed true if the item is completed.
+     */
+    public synchronized void setDone(int id, boolean completed) {
+        if (done.get(id) != completed) {
+            done.set(id, completed);
+            pendingChanges.add(completed ? id : ~id);
+        }
+    }
+
+    /**
+     * Gets the number of items with an id.
+     *
+     * @return the number of ids assigned.
+     */
+    public synchronized int size() {
+        return idCount;
+    }
+
+    /**
+     * Gets the number of completed items.
+     *
+     * @return the number of completed items.
+     */
+    public synchronized int doneCount() {
+        return done.cardinality();
+    }
+
+    /**
+     * Imports button states from the JSON progress format, as returned by {@link ProgressJournal#load()}.
+     * Every state gets an id, and states with the "green" icon are marked completed.
+     *
+     * @param buttonStates the states, each with a "text", an "icon" and an optional "n" field.
+     * @return the number of completed items imported.
+     */
+    public synchronized int migrate(JSONArray buttonStates) {
+        Map<String, Integer> occurrences = new HashMap<>();
+        int completed = 0;
+        for (int i = 0; i < buttonStates.length(); i++) {
+            JSONObject state = buttonStates.optJSONObject(i);
+            if (state == null || !state.has("text")) {
+                continue;
+            }
+            String text = state.getString("text");
+            int occurrence = state.optInt("n", occurrences.getOrDefault(text, 0));
+            occurrences.put(text, occurrence + 1);
+            int id = id(text, occurrence);
+            if (state.optString("icon").equals("green")) {
+                done.set(id);
+                completed++;
+            }
+        }
+        compactPending = true;
+        return completed;
+    }
+
+    /**
+     * Saves the store: ids assigned since the last save are appended to the id file, then the changed
+     * bits are appended to the journal, or the journal is compacted once it has grown long enough.
+     */
+    public synchronized void save() {
+        try {
+            appendPendingKeys();
+            long changes = validLogBytes / Integer.BYTES + pendingChanges.size();
+            if (compactPending || changes > Math.max(MIN_COMPACTION_RECORDS, idCount / 32)) {
+                compact();
+            } else {
+                appendPendingChanges();
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving progress: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compacts the journal into the bits file: the bits file is replaced through a temporary file, so a crash
+     * leaves the previous bits intact, and only then is the journal emptied. A crash in between leaves a
+     * journal that replays to the same bits.
+     *
+     * @throws IOException if the bits or the journal cannot be written.
+     */
+    synchronized void compact() throws IOException {
+        appendPendingKeys();
+        writeBits(bitsPath, done.toLongArray(), idCount);
+        pendingChanges.clear();
+        compactPending = false;
+        if (validLogBytes > 0) {
+            try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+                channel.truncate(0);
+                if (JsonUtils.isDurable()) {
+                    channel.force(true);
+                }
+            }
+            validLogBytes = 0;
+        }
+    }
+
+    /**
+     * Gets the path of the store files without their extension.
+     *
+     * @return the base path.
+     */
+    public String getBasePath() {
+        return basePath;
+    }
+
+    /**
+     * Appends the keys of newly assigned ids to the id file, first cutting off any key left incomplete
+     * by a crash so the new keys keep their ids.
+     *
+     * @throws IOException if the id file cannot be written.
+     */
+    private void appendPendingKeys() throws IOException {
+        if (pendingKeys.isEmpty() && Files.exists(idsPath)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(idsPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(validIdsBytes);
+            channel.position(validIdsBytes);
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            for (String key : pendingKeys) {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                out.write(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                out.write(bytes);
+            }
+            out.flush();
+            if (JsonUtils.isDurable()) {
+                channel.force(true);
+            }
+            validIdsBytes = channel.position();
+        }
+        pendingKeys.clear();
+    }
+
+    /**
+     * Appends the bits changed since the last save to the journal, first cutting off any change left
+     * incomplete by a crash.
+     *
+     * @throws IOException if the journal cannot be written.
+     */
+    private void appendPendingChanges() throws IOException {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(pendingChanges.size() * Integer.BYTES);
+        for (int change : pendingChanges) {
+            buffer.putInt(change);
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(validLogBytes);
+            channel.position(validLogBytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (JsonUtils.isDurable()) {
+                channel.force(true);
+            }
+            validLogBytes = channel.position();
+        }
+        pendingChanges.clear();
+    }
+
+    /**
+     * Reads a completion bits file, falling back to its backup if the file itself is damaged.
+     *
+     * @param path the path of the file.
+     * @return the words of the bits, without bits at or beyond the item count in the header.
+     * @throws IOException if neither the file nor its backup can be read as a completion bits file.
+     */
+    static long[] readBits(Path path) throws IOException {
+        try {
+            return parseBits(path);
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (IOException e) {
+            Path backupPath = JsonUtils.backupPath(path);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            long[] words = parseBits(backupPath);
+            System.err.println("Recovered progress bits from backup: " + backupPath);
+            return words;
+        }
+    }
+
+    /**
+     * Replaces a completion bits file through a temporary file, keeping the previous bits as a backup.
+     *
+     * @param path  the path of the file.
+     * @param words the words of the bits.
+     * @param count the number of items the bits cover.
+     * @throws IOException if the file cannot be written.
+     * @see #writeBits(Path, long[], int, boolean)
+     */
+    static void writeBits(Path path, long[] words, int count) throws IOException {
+        writeBits(path, words, count, true);
+    }
+
+    /**
+     * Replaces a completion bits file through a temporary file, so a crash leaves the previous bits intact.
+     * With a backup, the previous bits are kept unless they cannot be read, in which case the older backup is
+     * worth more; keeping it costs a read of the previous file and a hard link. In durable mode the new bits
+     * and the directory entry are flushed to the disk.
+     *
+     * @param path   the path of the file.
+     * @param words  the words of the bits.
+     * @param count  the number of items the bits cover.
+     * @param backup true to keep the previous bits as a backup.
+     * @throws IOException if the file cannot be written.
+     * @see JsonUtils#setDurable(boolean)
+     */
+    static void writeBits(Path path, long[] words, int count, boolean backup) throws IOException {
+        boolean sync = JsonUtils.isDurable();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + words.length * Long.BYTES);
+        buffer.putInt(MAGIC).putInt(count);
+        buffer.asLongBuffer().put(words);
+        buffer.rewind();
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(true);
+            }
+        }
+        if (backup) {
+            try {
+                parseBits(path);
+                JsonUtils.linkBackup(path);
+            } catch (IOException e) {
+                // Missing or damaged: the older backup is the last good version
+            }
+        }
+        JsonUtils.moveIntoPlace(tempPath, path);
+        if (sync) {
+            JsonUtils.syncDirectory(path.toAbsolutePath().getParent());
+        }
+    }
+
+    private static long[] parseBits(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a progress file: " + path);
+        }
+        int count = Math.max(0, buffer.getInt());
+        long[] words = new long[Math.min(buffer.remaining() / Long.BYTES, (count + 63) / 64)];
+        buffer.asLongBuffer().get(words);
+        if (count % 64 != 0 && words.length == (count + 63) / 64) {
+            words[words.length - 1] &= -1L >>> (64 - count % 64);
+        }
+        return words;
+    }
+}
@@ -1,26 +1,45 @@
 package org.example.model;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
+import org.json.JSONException;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 /**
  * The QuizData class is responsible for loading and managing quiz questions from a JSON file.
+ * In lazy mode only the category names and their byte ranges are read up front, and the questions of a
+ * category are parsed the first time they are requested. Categories are read by seeking in the file; a file
+ * packaged in a jar is first extracted into the cache directory once, so no category costs a pass over the file.
+ * When a current binary snapshot of the file exists (see {@link DataSnapshot}) it is read instead of the JSON.
  */
 public class QuizData {
-    private static final String DEFAULT_QUIZ_JSON_PATH = "questions.json"; // Default path for the resource
+    static final String DEFAULT_QUIZ_JSON_PATH = "questions.json"; // Default path for the resource
+    private static final String INDEX_SUFFIX = ".idx";
+    static final int DEFAULT_MAX_CACHED_CATEGORIES = 64;
+    static final long DEFAULT_MAX_CACHED_BYTES = 8L * 1024 * 1024;
     private final String quizJsonPath;
+    private final boolean lazy;
     private final Map<String, List<QuizQuestion>> categorizedQuestions;
+    private final BoundedCache<String, List<QuizQuestion>> categoryCache;
+    private final ChoicePool choicePool = new ChoicePool();
+    private CategoryIndex categoryIndex;
+    private Path source;
+    private DataSnapshot snapshot;
+    private Map<String, Integer> snapshotPositions;
 
     /**
      * Constructs a new QuizData instance and loads the quiz data from the default path.
@@ -29,6 +48,27 @@ public class QuizData {
         this(DEFAULT_QUIZ_JSON_PATH);
     }
 
+    /**
+     * Constructs a new QuizData instance for the default path, either loading every category
+     * or only indexing them for on-demand loading.
+     *
+     * @param lazy true to parse the questions of a category only when they are first requested.
+     */
+    public QuizData(boolean lazy) {
+        this(DEFAULT_QUIZ_JSON_PATH, lazy);
+    }
+
+    /**
+     * Constructs a new lazy QuizData instance for the default path whose parsed categories are kept
+     * in a cache with the given limits.
+     *
+     * @param maxCachedCategories the maximum number of parsed categories kept in memory.
+     * @param maxCachedBytes      the maximum approximate number of bytes retained by parsed categories.
+     */
+    public QuizData(int maxCachedCategories, long maxCachedBytes) {
+        this(DEFAULT_QUIZ_JSON_PATH, true, maxCachedCategories, maxCachedBytes);
+    }
+
     /**
      * Constructs a new QuizData instance and loads the quiz data from the specified path.
      * Package-private for testing purposes.
@@ -36,50 +76,261 @@ public class QuizData {
      * @param quizJsonPath the path to the JSON file containing quiz data.
      */
     QuizData(String quizJsonPath) {
+        this(quizJsonPath, false);
+    }
+
+    /**
+     * Constructs a new QuizData instance for the specified path.
+     * Package-private for testing purposes.
+     *
+     * @param quizJsonPath the path to the JSON file containing quiz data.
+     * @param lazy         true to parse the questions of a category only when they are first requested.
+     */
+    QuizData(String quizJsonPath, boolean lazy) {
+        this(quizJsonPath, lazy, DEFAULT_MAX_CACHED_CATEGORIES, DEFAULT_MAX_CACHED_BYTES);
+    }
+
+    /**
+     * Constructs a new QuizData instance for the specified path and cache limits.
+     * Package-private for testing purposes.
+     *
+     * @param quizJsonPath        the path to the JSON file containing quiz data.
+     * @param lazy                true to parse the questions of a category only when they are first requested.
+     * @param maxCachedCategories the maximum number of parsed categories kept in memory in lazy mode.
+     * @param maxCachedBytes      the maximum approximate number of bytes retained by parsed categories in lazy mode.
+     */
+    QuizData(String quizJsonPath, boolean lazy, int maxCachedCategories, long maxCachedBytes) {
         this.quizJsonPath = quizJsonPath;
+        this.lazy = lazy;
         this.categorizedQuestions = new LinkedHashMap<>();
-        loadQuizData();
+        this.categoryCache = new BoundedCache<>(maxCachedCategories, maxCachedBytes, QuizData::estimateRetainedBytes);
+        this.snapshot = DataSnapshot.openFor(quizJsonPath, DataSnapshot.QUESTIONS);
+        if (snapshot != null) {
+            loadSnapshot();
+        } else if (lazy) {
+            loadCategoryIndex();
+        } else {
+            loadQuizData();
+        }
     }
 
     /**
      * Loads quiz data from the specified JSON file path.
+     * The file is parsed token by token, so QuizQuestion objects are built straight from the byte stream.
+     *
+     * @throws JSONException if the file is not valid quiz JSON.
      */
     void loadQuizData() {
-        String resourcePath = quizJsonPath.startsWith("/") ? quizJsonPath.substring(1) : quizJsonPath;
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourcePath)) {  // Accessing through ClassLoader
-            if (inputStream == null) {
-                throw new IOException("Resource not found: " + resourcePath);
+        URL url = ResourceLocator.locate(quizJsonPath);
+        try {
+            if (url == null) {
+                throw new IOException("Resource not found: " + quizJsonPath);
             }
-            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
-            String jsonData = reader.lines().collect(Collectors.joining());
-            JSONArray jsonArray = new JSONArray(jsonData);
-            for (int i = 0; i < jsonArray.length(); i++) {
-                JSONObject categoryObject = jsonArray.getJSONObject(i);
-                String category = categoryObject.getString("category");
-                JSONArray questionsArray = categoryObject.getJSONArray("questions");
-                List<QuizQuestion> questions = new ArrayList<>();
-                for (int j = 0; j < questionsArray.length(); j++) {
-                    JSONObject questionObj = questionsArray.getJSONObject(j);
-                    QuizQuestion question = new QuizQuestion(
-                            questionObj.getString("questionText"),
-                            questionObj.getJSONArray("choices").toList().stream().map(Object::toString).collect(Collectors.toList()),
-                            questionObj.getInt("correctAnswerIndex")
-                    );
-                    questions.add(question);
+            try (InputStream inputStream = url.openStream()) {
+                JsonStreamReader reader = new JsonStreamReader(inputStream);
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    Map.Entry<String, List<QuizQuestion>> category = readCategory(reader);
+                    categorizedQuestions.put(category.getKey(), category.getValue());
                 }
-                categorizedQuestions.put(category, questions);
+                reader.endArray();
             }
+        } catch (MalformedJsonException e) {
+            throw new JSONException("Malformed quiz data " + quizJsonPath + ": " + e.getMessage(), e);
         } catch (IOException e) {
             System.err.println("Error loading structured quiz data: " + e.getMessage());
         }
     }
 
+    /**
+     * Reads the category names from the binary snapshot, and in eager mode every category as well.
+     * No JSON is parsed on this path.
+     */
+    private void loadSnapshot() {
+        snapshotPositions = snapshot.categoryPositions();
+        if (!lazy) {
+            snapshotPositions.forEach((category, position) ->
+                    categorizedQuestions.put(category, snapshot.questions(position, choicePool)));
+        }
+    }
+
+    /**
+     * Loads the category index for lazy mode, from the sidecar file when it is still valid
+     * or by scanning the JSON file and saving a fresh sidecar otherwise.
+     */
+    void loadCategoryIndex() {
+        URL resource = ResourceLocator.locate(quizJsonPath);
+        try {
+            if (resource == null) {
+                throw new IOException("Resource not found: " + quizJsonPath);
+            }
+            long[] stamp = ResourceLocator.stamp(resource);
+            Path sidecar = getIndexPath();
+            categoryIndex = CategoryIndex.load(sidecar, stamp);
+            source = ResourceLocator.toPath(resource);
+            if (source == null) {
+                source = extract(resource, stamp, categoryIndex == null);
+            }
+            if (categoryIndex == null) {
+                try (InputStream inputStream = Files.newInputStream(source)) {
+                    categoryIndex = CategoryIndex.scan(inputStream);
+                }
+                categoryIndex.save(sidecar, stamp);
+            }
+        } catch (MalformedJsonException e) {
+            throw new JSONException("Malformed quiz data " + quizJsonPath + ": " + e.getMessage(), e);
+        } catch (IOException e) {
+            System.err.println("Error indexing structured quiz data: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the path of the sidecar file that holds the category index: next to the JSON file when it is
+     * on disk, and in the cache directory when it is packaged.
+     *
+     * @return the sidecar path.
+     */
+    Path getIndexPath() {
+        return ResourceLocator.derivedPath(quizJsonPath, INDEX_SUFFIX);
+    }
+
+    /**
+     * Copies a packaged questions file into the cache directory, next to its index, so categories can be read
+     * by seeking in the copy. A copy of the same size as the resource is reused while the index is valid.
+     *
+     * @param resource the packaged questions file.
+     * @param stamp    the modification time and size of the resource.
+     * @param stale    true if the index was rebuilt, so an existing copy may belong to an older version.
+     * @return the path of the copy.
+     * @throws IOException if the resource cannot be copied.
+     */
+    private Path extract(URL resource, long[] stamp, boolean stale) throws IOException {
+        Path copy = ResourceLocator.derivedPath(quizJsonPath, "");
+        if (!stale && Files.isRegularFile(copy) && Files.size(copy) == stamp[1]) {
+            return copy;
+        }
+        Path temp = Files.createTempFile(copy.getParent(), copy.getFileName().toString(), ".tmp");
+        try (InputStream inputStream = resource.openStream()) {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            JsonUtils.moveIntoPlace(temp, copy);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return copy;
+    }
+
+    /**
+     * Parses the questions of one category from its byte range in the JSON file, reading only that range.
+     *
+     * @param position the position of the category in the index.
+     * @return the questions of the category.
+     * @throws IOException if the category cannot be read.
+     */
+    private List<QuizQuestion> loadCategory(int position) throws IOException {
+        long start = categoryIndex.getStart(position);
+        ByteBuffer slice = ByteBuffer.allocate((int) (categoryIndex.getEnd(position) - start));
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            while (slice.hasRemaining() && channel.read(slice, start + slice.position()) >= 0) {
+                // read until the range is complete or the file ends
+            }
+        }
+        return readCategory(new JsonStreamReader(new ByteArrayInputStream(slice.array(), 0, slice.position())))
+                .getValue();
+    }
+
+    /**
+     * Reads one category object.
+     *
+     * @param reader the reader positioned at the start of a category object.
+     * @return the category name and its questions.
+     * @throws IOException if the category cannot be read.
+     */
+    private Map.Entry<String, List<QuizQuestion>> readCategory(JsonStreamReader reader) throws IOException {
+        String category = null;
+        List<QuizQuestion> questions = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "category":
+                    category = reader.nextString();
+                    break;
+                case "questions":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        questions.add(readQuestion(reader));
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (category == null) {
+            throw new MalformedJsonException("Category object without a \"category\" name");
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(category, questions);
+    }
+
+    /**
+     * Reads one question object.
+     *
+     * @param reader the reader positioned at the start of a question object.
+     * @return the QuizQuestion that was read.
+     * @throws IOException if the question cannot be read.
+     */
+    private QuizQuestion readQuestion(JsonStreamReader reader) throws IOException {
+        String questionText = null;
+        int[] choiceIds = new int[4];
+        int choiceCount = 0;
+        int correctAnswerIndex = -1;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "questionText":
+                    questionText = reader.nextString();
+                    break;
+                case "choices":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        String choice = reader.peek() == JsonStreamReader.Token.STRING
+                                ? reader.nextString() : String.valueOf(reader.readValue());
+                        if (choiceCount == choiceIds.length) {
+                            choiceIds = Arrays.copyOf(choiceIds, choiceCount * 2);
+                        }
+                        choiceIds[choiceCount++] = choicePool.intern(choice);
+                    }
+                    reader.endArray();
+                    break;
+                case "correctAnswerIndex":
+                    correctAnswerIndex = reader.nextInt();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (questionText == null || correctAnswerIndex < 0) {
+            throw new MalformedJsonException("Question object without questionText or correctAnswerIndex");
+        }
+        if (choiceCount < choiceIds.length) {
+            choiceIds = Arrays.copyOf(choiceIds, choiceCount);
+        }
+        return new QuizQuestion(questionText, choicePool, choiceIds, correctAnswerIndex);
+    }
+
     /**
      * Retrieves the ordered category keys.
      *
      * @return a list of category keys in the order they were loaded.
      */
     public List<String> getOrderedCategoryKeys() {
+        if (lazy && snapshot != null) {
+            return new ArrayList<>(snapshotPositions.keySet());
+        }
+        if (lazy) {
+            return categoryIndex == null ? new ArrayList<>() : new ArrayList<>(categoryIndex.getNames());
+        }
         return new ArrayList<>(categorizedQuestions.keySet());
     }
 
@@ -90,6 +341,87 @@ public class QuizData {
      * @return a list of QuizQuestion objects for the specified category.
      */
     public List<QuizQuestion> getQuestionsForCategory(String category) {
-        return categorizedQuestions.getOrDefault(category, new ArrayList<>());
+        if (!lazy) {
+            return categorizedQuestions.getOrDefault(category, new ArrayList<>());
+        }
+        synchronized (categoryCache) {
+            List<QuizQuestion> questions = categoryCache.get(category);
+            if (questions != null) {
+                return questions;
+            }
+            int position = findCategory(category);
+            if (position < 0) {
+                return new ArrayList<>();
+            }
+            try {
+                questions = snapshot != null ? snapshot.questions(position, choicePool) : loadCategory(position);
+            } catch (MalformedJsonException e) {
+                throw new JSONException("Malformed quiz category " + category + ": " + e.getMessage(), e);
+            } catch (IOException e) {
+                System.err.println("Error loading quiz category " + category + ": " + e.getMessage());
+                return new ArrayList<>();
+            }
+            categoryCache.put(category, questions);
+            return questions;
+        }
+    }
+
+    /**
+     * Finds where a category is stored in the snapshot or the JSON file.
+     *
+     * @param category the category name.
+     * @return the position of the category, or -1 if it does not exist.
+     */
+    private int findCategory(String category) {
+        if (snapshot != null) {
+            return snapshotPositions.getOrDefault(category, -1);
+        }
+        return categoryIndex == null ? -1 : categoryIndex.indexOf(category);
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the cache of parsed categories used in lazy mode.
+     *
+     * @return a snapshot of the cache statistics.
+     */
+    public CacheStats getCacheStats() {
+        return categoryCache.stats();
+    }
+
+    /**
+     * Retrieves the pool of distinct choice texts shared by the questions of this instance.
+     *
+     * @return the choice pool.
+     */
+    ChoicePool getChoicePool() {
+        return choicePool;
+    }
+
+    /**
+     * Estimates how many bytes a list of questions retains, assuming compact Latin-1 strings.
+     * Pooled choices only count their ids, since the choice texts are shared between categories.
+     *
+     * @param questions the questions of a category.
+     * @return the approximate retained size in bytes.
+     */
+    static long estimateRetainedBytes(List<QuizQuestion> questions) {
+        long bytes = 40 + 4L * questions.size();
+        for (QuizQuestion question : questions) {
+            bytes += 24 + estimateStringBytes(question.getQuestionText());
+            List<String> choices = question.getChoices();
+            if (choices instanceof ChoicePool.ChoiceList) {
+                bytes += 24 + 16 + 4L * choices.size();
+            } else {
+                bytes += 40;
+                for (String choice : choices) {
+                    bytes += 4 + estimateStringBytes(choice);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimateStringBytes(String value) {
+        return 40 + value.length();
     }
 }
\ No newline at end of file
@@ -24,6 +24,19 @@ public class QuizQuestion {
         this.correctAnswerIndex = correctAnswerIndex;
     }
 
+    /**
+     * Constructs a new QuizQuestion whose choices are stored as ids into a shared pool.
+     * The choices list returned by {@link #getChoices()} is then a read-only view over the pool.
+     *
+     * @param questionText       the text of the question.
+     * @param choicePool         the pool holding the choice texts.
+     * @param choiceIds          the ids of the choices in the pool, in display order.
+     * @param correctAnswerIndex the index of the correct answer in the choices list.
+     */
+    public QuizQuestion(String questionText, ChoicePool choicePool, int[] choiceIds, int correctAnswerIndex) {
+        this(questionText, choicePool.view(choiceIds), correctAnswerIndex);
+    }
+
     /**
      * Retrieves the text of the question.
      *
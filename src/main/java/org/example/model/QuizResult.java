@@ -0,0 +1,77 @@
+package org.example.model;
+
+/**
+ * The QuizResult class is the immutable outcome of scoring one quiz attempt.
+ */
+public class QuizResult {
+    private final int correctCount;
+    private final int incorrectCount;
+    private final int questionCount;
+    private final boolean passed;
+
+    /**
+     * Constructs a new QuizResult.
+     *
+     * @param correctCount   the number of questions answered correctly.
+     * @param incorrectCount the number of questions answered wrongly.
+     * @param questionCount  the number of questions in the quiz.
+     * @param passed         whether enough questions were answered correctly to pass.
+     */
+    public QuizResult(int correctCount, int incorrectCount, int questionCount, boolean passed) {
+        this.correctCount = correctCount;
+        this.incorrectCount = incorrectCount;
+        this.questionCount = questionCount;
+        this.passed = passed;
+    }
+
+    /**
+     * Gets the number of questions answered correctly.
+     *
+     * @return the number of correct answers.
+     */
+    public int getCorrectCount() {
+        return correctCount;
+    }
+
+    /**
+     * Gets the number of questions answered wrongly.
+     *
+     * @return the number of incorrect answers.
+     */
+    public int getIncorrectCount() {
+        return incorrectCount;
+    }
+
+    /**
+     * Gets the number of questions left without an answer.
+     *
+     * @return the number of unanswered questions.
+     */
+    public int getUnansweredCount() {
+        return questionCount - correctCount - incorrectCount;
+    }
+
+    /**
+     * Gets the number of questions in the quiz.
+     *
+     * @return the number of questions.
+     */
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Checks whether the attempt passed.
+     *
+     * @return true if enough questions were answered correctly to pass.
+     */
+    public boolean isPassed() {
+        return passed;
+    }
+
+    @Override
+    public String toString() {
+        return "QuizResult{correct=" + correctCount + ", incorrect=" + incorrectCount
+                + ", questions=" + questionCount + ", passed=" + passed + "}";
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.model;
+
+import java.util.List;
+
+/**
+ * The QuizScorer class grades quiz attempts for one category without any user interface.
+ * An attempt is given as the index of the selected choice for each question, in question order, with
+ * {@link #UNANSWERED} for a question left open. The correct indexes are copied into an array once, so
+ * {@link #countCorrect(int[])} and {@link #passes(int[])} read only primitive arrays and allocate nothing.
+ * An attempt passes with at least the pass threshold of correct answers. The quiz window used to pass only
+ * exactly five correct answers, which failed a perfect attempt at a category of more than five questions.
+ */
+public class QuizScorer {
+    /** The number of correct answers needed to pass when no threshold is given. */
+    public static final int DEFAULT_PASS_THRESHOLD = 5;
+    /** The selected index of a question without an answer. */
+    public static final int UNANSWERED = -1;
+
+    private final int[] correctIndexes;
+    private final int passThreshold;
+
+    /**
+     * Constructs a QuizScorer with the default pass threshold.
+     *
+     * @param questions the questions of the quiz, in display order.
+     */
+    public QuizScorer(List<QuizQuestion> questions) {
+        this(questions, DEFAULT_PASS_THRESHOLD);
+    }
+
+    /**
+     * Constructs a QuizScorer.
+     *
+     * @param questions     the questions of the quiz, in display order.
+     * @param passThreshold the number of correct answers needed to pass.
+     */
+    public QuizScorer(List<QuizQuestion> questions, int passThreshold) {
+        this.correctIndexes = new int[questions.size()];
+        for (int i = 0; i < correctIndexes.length; i++) {
+            correctIndexes[i] = questions.get(i).getCorrectAnswerIndex();
+        }
+        this.passThreshold = passThreshold;
+    }
+
+    /**
+     * Counts the correctly answered questions of an attempt.
+     * Selections beyond the last question are ignored; missing ones count as unanswered.
+     *
+     * @param selected the selected choice index for each question.
+     * @return the number of correct answers.
+     */
+    public int countCorrect(int[] selected) {
+        int correct = 0;
+        int n = Math.min(selected.length, correctIndexes.length);
+        for (int i = 0; i < n; i++) {
+            if (selected[i] == correctIndexes[i]) {
+                correct++;
+            }
+        }
+        return correct;
+    }
+
+    /**
+     * Checks whether an attempt passes.
+     *
+     * @param selected the selected choice index for each question.
+     * @return true if at least the pass threshold of questions were answered correctly.
+     */
+    public boolean passes(int[] selected) {
+        return countCorrect(selected) >= passThreshold;
+    }
+
+    /**
+     * Scores an attempt.
+     *
+     * @param selected the selected choice index for each question.
+     * @return the result of the attempt.
+     */
+    public QuizResult score(int[] selected) {
+        int correct = 0;
+        int answered = 0;
+        int n = Math.min(selected.length, correctIndexes.length);
+        for (int i = 0; i < n; i++) {
+            if (selected[i] != UNANSWERED) {
+                answered++;
+                if (selected[i] == correctIndexes[i]) {
+                    correct++;
+                }
+            }
+        }
+        return new QuizResult(correct, answered - correct, correctIndexes.length, correct >= passThreshold);
+    }
+
+    /**
+     * Gets the number of questions of the quiz.
+     *
+     * @return the number of questions.
+     */
+    public int getQuestionCount() {
+        return correctIndexes.length;
+    }
+
+    /**
+     * Gets the number of correct answers needed to pass.
+     *
+     * @return the pass threshold.
+     */
+    public int getPassThreshold() {
+        return passThreshold;
+    }
+}
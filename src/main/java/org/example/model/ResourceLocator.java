@@ -0,0 +1,117 @@
+package org.example.model;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The ResourceLocator class resolves the data files of the application.
+ * A path is looked up on the classpath first and then on the file system, so bundled resources
+ * and generated files on disk can be loaded the same way.
+ * Files derived from a data file, such as its index or snapshot, are kept next to it when it is a file on disk,
+ * and in a cache directory when it is packaged in a jar, so the working directory is never written to.
+ */
+final class ResourceLocator {
+
+    /**
+     * The system property naming the directory that holds files derived from packaged resources.
+     */
+    static final String CACHE_DIR_PROPERTY = "flashcards.cacheDir";
+
+    private ResourceLocator() {
+    }
+
+    /**
+     * Resolves the given path to a URL.
+     *
+     * @param path the resource path or file path.
+     * @return the URL of the resource, or null if it cannot be found.
+     */
+    static URL locate(String path) {
+        String resourcePath = path.startsWith("/") ? path.substring(1) : path;
+        URL url = ResourceLocator.class.getClassLoader().getResource(resourcePath);
+        if (url != null) {
+            return url;
+        }
+        Path file = Paths.get(path);
+        if (Files.isRegularFile(file)) {
+            try {
+                return file.toUri().toURL();
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the modification time and size of a resource, used to detect stale derived files.
+     *
+     * @param url the resource URL.
+     * @return an array holding the modification time and the size in bytes.
+     * @throws IOException if the resource cannot be inspected.
+     */
+    static long[] stamp(URL url) throws IOException {
+        URLConnection connection = url.openConnection();
+        connection.setUseCaches(false);
+        long stamp = connection.getLastModified();
+        long size = connection.getContentLengthLong();
+        connection.getInputStream().close();
+        return new long[]{stamp, size};
+    }
+
+    /**
+     * Resolves the path of a file derived from a data file: next to the data file when it is on disk,
+     * otherwise in the cache directory.
+     *
+     * @param path   the resource path or file path of the data file.
+     * @param suffix the suffix appended to the data file name.
+     * @return the path of the derived file.
+     */
+    static Path derivedPath(String path, String suffix) {
+        String name = Paths.get(path).getFileName() + suffix;
+        URL url = locate(path);
+        Path file = url != null ? toPath(url) : null;
+        return file != null ? file.resolveSibling(name) : cacheDirectory().resolve(name);
+    }
+
+    /**
+     * Gets the file a URL points to.
+     *
+     * @param url the URL.
+     * @return the path of the file, or null if the URL is not a file on disk.
+     */
+    static Path toPath(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the directory that holds files derived from packaged resources, creating it if needed.
+     * It is the {@value #CACHE_DIR_PROPERTY} system property, or a directory in the temporary directory.
+     *
+     * @return the cache directory.
+     */
+    static Path cacheDirectory() {
+        String configured = System.getProperty(CACHE_DIR_PROPERTY);
+        Path directory = configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("java.io.tmpdir"), "flashcards-cache");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            System.err.println("Error creating cache directory " + directory + ": " + e.getMessage());
+        }
+        return directory;
+    }
+}
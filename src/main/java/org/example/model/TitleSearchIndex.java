@@ -0,0 +1,189 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The TitleSearchIndex class answers case-insensitive substring queries over a list of titles.
+ * The lowercased titles are stored back to back in one char array, and every character, bigram and trigram
+ * of every title is mapped to the sorted list of titles containing it. A query of up to three characters is
+ * answered straight from its postings; a longer one only checks the titles listed under its rarest trigram.
+ * Titles are identified by the order in which they were added. All methods are synchronized,
+ * so titles can be added on one thread while another thread searches.
+ */
+public class TitleSearchIndex {
+    private static final int GRAM = 3;
+
+    private char[] text = new char[1024];
+    private int textLength;
+    private int[] starts = new int[65];
+    private int size;
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    /**
+     * Constructs an empty TitleSearchIndex.
+     */
+    public TitleSearchIndex() {
+    }
+
+    /**
+     * Constructs a TitleSearchIndex over the given titles.
+     *
+     * @param titles the titles to index, identified by their position in the list.
+     */
+    public TitleSearchIndex(List<String> titles) {
+        for (String title : titles) {
+            add(title);
+        }
+    }
+
+    /**
+     * Adds a title to the index.
+     *
+     * @param title the title to add.
+     * @return the id of the title, which is the number of titles added before it.
+     */
+    public synchronized int add(String title) {
+        String normalized = normalize(title);
+        int id = size;
+        if (textLength + normalized.length() > text.length) {
+            text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + normalized.length()));
+        }
+        normalized.getChars(0, normalized.length(), text, textLength);
+        int start = textLength;
+        textLength += normalized.length();
+
+        if (size + 1 == starts.length) {
+            starts = Arrays.copyOf(starts, starts.length * 2);
+        }
+        starts[size] = start;
+        starts[size + 1] = textLength;
+        size++;
+
+        for (int length = 1; length <= GRAM; length++) {
+            for (int i = start; i + length <= textLength; i++) {
+                postings.computeIfAbsent(gram(text, i, length), key -> new Postings()).add(id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Gets the number of titles in the index.
+     *
+     * @return the number of titles.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Finds the titles containing the query, ignoring case and surrounding whitespace.
+     * An empty query matches every title.
+     *
+     * @param query the text to search for.
+     * @return a bit set with the ids of the matching titles.
+     */
+    public synchronized BitSet search(String query) {
+        char[] needle = normalize(query.trim()).toCharArray();
+        BitSet matches = new BitSet(size);
+        if (needle.length == 0) {
+            matches.set(0, size);
+            return matches;
+        }
+        if (needle.length <= GRAM) {
+            Postings exact = postings.get(gram(needle, 0, needle.length));
+            for (int i = 0; exact != null && i < exact.size; i++) {
+                matches.set(exact.ids[i]);
+            }
+            return matches;
+        }
+
+        Postings rarest = null;
+        for (int i = 0; i + GRAM <= needle.length; i++) {
+            Postings candidates = postings.get(gram(needle, i, GRAM));
+            if (candidates == null) {
+                return matches;
+            }
+            if (rarest == null || candidates.size < rarest.size) {
+                rarest = candidates;
+            }
+        }
+        for (int i = 0; i < rarest.size; i++) {
+            int id = rarest.ids[i];
+            if (contains(id, needle)) {
+                matches.set(id);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Checks whether a title contains the needle.
+     *
+     * @param id     the id of the title.
+     * @param needle the normalized text to look for.
+     * @return true if the title contains the needle.
+     */
+    private boolean contains(int id, char[] needle) {
+        int last = starts[id + 1] - needle.length;
+        outer:
+        for (int i = starts[id]; i <= last; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (text[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Packs up to three characters starting at the given offset, and their count, into one key.
+     *
+     * @param chars  the characters.
+     * @param offset the offset of the first character.
+     * @param length the number of characters, from one to three.
+     * @return the n-gram key.
+     */
+    private static long gram(char[] chars, int offset, int length) {
+        long key = length;
+        for (int i = 0; i < length; i++) {
+            key = (key << 16) | chars[offset + i];
+        }
+        return key;
+    }
+
+    /**
+     * Normalizes a title or query for comparison.
+     *
+     * @param value the text to normalize.
+     * @return the lowercased text.
+     */
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The ids of the titles containing one n-gram, in increasing order.
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
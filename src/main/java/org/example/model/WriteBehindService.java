@@ -0,0 +1,127 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The WriteBehindService class runs file writes on a dedicated background thread, shortly after they are
+ * submitted, so the caller never waits for the disk.
+ * Each write has a key naming what it writes. A write submitted while another one with the same key is still
+ * pending replaces it, so a burst of changes to the same thing costs one write. All writes pending when the
+ * delay expires run together in one flush, in the order their keys were first submitted.
+ * {@link #flush()} runs the pending writes on the calling thread, which is what a shutdown hook needs.
+ */
+public class WriteBehindService implements AutoCloseable {
+    /** The default delay between the first pending write and the flush, in milliseconds. */
+    public static final long DEFAULT_DELAY_MILLIS = 500;
+
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private final Map<String, Runnable> pending = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+    private boolean flushScheduled;
+    private long submittedWrites;
+    private long coalescedWrites;
+    private long flushCount;
+    private long lastFlushNanos;
+    private long maxFlushNanos;
+    private long totalFlushNanos;
+
+    /**
+     * Constructs a WriteBehindService with the default delay.
+     */
+    public WriteBehindService() {
+        this(DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a WriteBehindService.
+     *
+     * @param delayMillis how long to wait after the first pending write before flushing, in milliseconds.
+     */
+    public WriteBehindService(long delayMillis) {
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits a write to run on the background thread after the delay.
+     *
+     * @param key   the key naming what the write writes; a pending write with the same key is replaced.
+     * @param write the write to run.
+     */
+    public synchronized void submit(String key, Runnable write) {
+        submittedWrites++;
+        if (pending.put(key, write) != null) {
+            coalescedWrites++;
+        }
+        if (!flushScheduled && !executor.isShutdown()) {
+            flushScheduled = true;
+            executor.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs every pending write now, on the calling thread, and waits for any flush already running.
+     * A write that throws is reported and does not stop the others.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<Runnable> writes;
+            synchronized (this) {
+                flushScheduled = false;
+                writes = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            if (writes.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            for (Runnable write : writes) {
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error in write-behind write: " + e.getMessage());
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            synchronized (this) {
+                flushCount++;
+                lastFlushNanos = elapsed;
+                maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+                totalFlushNanos += elapsed;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the counters of the service.
+     *
+     * @return a snapshot of the pending, submitted and coalesced writes and of the flush latency.
+     */
+    public synchronized WriteBehindStats stats() {
+        return new WriteBehindStats(pending.size(), submittedWrites, coalescedWrites, flushCount,
+                lastFlushNanos, maxFlushNanos, totalFlushNanos);
+    }
+
+    /**
+     * Flushes the pending writes and stops the background thread. Writes submitted afterwards only run
+     * on an explicit {@link #flush()}.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            executor.shutdown();
+        }
+        flush();
+    }
+}
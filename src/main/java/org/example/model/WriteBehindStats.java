@@ -0,0 +1,76 @@
+package org.example.model;
+
+/**
+ * The WriteBehindStats class is an immutable snapshot of the counters of a WriteBehindService.
+ */
+public class WriteBehindStats {
+    private final int pendingWrites;
+    private final long submittedWrites;
+    private final long coalescedWrites;
+    private final long flushCount;
+    private final long lastFlushNanos;
+    private final long maxFlushNanos;
+    private final long totalFlushNanos;
+
+    /**
+     * Constructs a new WriteBehindStats snapshot.
+     *
+     * @param pendingWrites   the number of writes waiting for the next flush.
+     * @param submittedWrites the number of writes submitted.
+     * @param coalescedWrites the number of submitted writes that replaced a pending write for the same key.
+     * @param flushCount      the number of flushes that wrote something.
+     * @param lastFlushNanos  the duration of the last such flush, in nanoseconds.
+     * @param maxFlushNanos   the duration of the longest such flush, in nanoseconds.
+     * @param totalFlushNanos the total duration of all such flushes, in nanoseconds.
+     */
+    public WriteBehindStats(int pendingWrites, long submittedWrites, long coalescedWrites, long flushCount,
+                            long lastFlushNanos, long maxFlushNanos, long totalFlushNanos) {
+        this.pendingWrites = pendingWrites;
+        this.submittedWrites = submittedWrites;
+        this.coalescedWrites = coalescedWrites;
+        this.flushCount = flushCount;
+        this.lastFlushNanos = lastFlushNanos;
+        this.maxFlushNanos = maxFlushNanos;
+        this.totalFlushNanos = totalFlushNanos;
+    }
+
+    public int getPendingWrites() {
+        return pendingWrites;
+    }
+
+    public long getSubmittedWrites() {
+        return submittedWrites;
+    }
+
+    public long getCoalescedWrites() {
+        return coalescedWrites;
+    }
+
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    public long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+
+    public long getMaxFlushNanos() {
+        return maxFlushNanos;
+    }
+
+    /**
+     * Gets the average duration of the flushes that wrote something.
+     *
+     * @return the average flush latency in nanoseconds, or 0 before the first flush.
+     */
+    public long getAverageFlushNanos() {
+        return flushCount == 0 ? 0 : totalFlushNanos / flushCount;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindStats{pending=" + pendingWrites + ", submitted=" + submittedWrites
+                + ", coalesced=" + coalescedWrites + ", flushes=" + flushCount
+                + ", lastFlushMs=" + lastFlushNanos / 1_000_000 + ", maxFlushMs=" + maxFlushNanos / 1_000_000 + "}";
+    }
+}
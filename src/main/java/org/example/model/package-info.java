@@ -2,10 +2,30 @@
  * This package contains the model components of the application.
  *
  * It includes the following classes:
+ * - BoundedCache: Least-recently-used cache limited by entry count and approximate retained bytes.
+ * - CacheStats: Snapshot of the hit, miss and eviction counters of a BoundedCache.
+ * - CategoryIndex: Records the byte range of each quiz category so categories can be loaded on demand.
+ * - ChoicePool: Stores each distinct answer choice once and hands out integer ids for it.
+ * - DataSnapshot: Compiles the JSON data files into memory-mapped binary snapshots and reads them back.
+ * - DeckGenerator: Writes seeded synthetic flashcards and questions files of any size for scale testing.
  * - DatabaseJson: Responsible for loading flashcards data from a JSON file.
+ * - Flashcard: Represents a flashcard with its title and information text.
+ * - FullTextIndex: Incremental inverted index over flashcard Info texts, ranked with BM25.
+ * - FuzzyMatcher: BK-tree over category name words for typo-tolerant search.
+ * - JsonStreamReader: Pull parser that reads JSON token by token straight from a byte stream.
+ * - JsonStreamWriter: Writes JSON token by token as UTF-8 straight into a byte stream.
  * - JsonUtils: Provides utility methods for reading and writing JSON data to and from files.
+ * - MalformedJsonException: Signals a data file that is not valid JSON or lacks a required field.
+ * - MultiUserProgressStore: Completion bits of many users with striped locks, lock-free reads and batched saves.
+ * - ProgressJournal: Reads progress saved in the older JSON format, replaying its journal over the snapshot.
+ * - ProgressStore: Completion bits of cards or categories under stable integer ids.
  * - QuizData: Responsible for loading and managing quiz questions from a JSON file.
  * - QuizQuestion: Represents a quiz question with its text, choices, and the index of the correct answer.
+ * - QuizResult: Immutable outcome of scoring one quiz attempt.
+ * - QuizScorer: Grades quiz attempts given as selected choice indexes, without any user interface.
+ * - TitleSearchIndex: Trigram index answering case-insensitive substring queries over card titles.
+ * - WriteBehindService: Runs file writes on a background thread, coalescing repeated writes of the same key.
+ * - WriteBehindStats: Snapshot of the pending writes, coalescing and flush latency of a WriteBehindService.
  *
  * The model package is responsible for:
  * - Handling data loading and saving.
@@ -0,0 +1,583 @@
+package org.example.view;
+
+import org.example.model.TitleSearchIndex;
+import javax.swing.JFrame;
+import javax.swing.JButton;
+import javax.swing.JScrollPane;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+import javax.swing.Timer;
+import javax.swing.BorderFactory;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.JLabel;
+import javax.swing.JComponent;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.Toolkit;
+import java.awt.Dimension;
+import java.awt.Color;
+import java.awt.GridLayout;
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ButtonGridFrame class is the common base of the frames that show their entries in a searchable grid.
+ * It extends JFrame and shows either cards or buttons. Cards are plain {@link Card} models shown in a
+ * {@link CardGrid}, which only paints the visible ones with a single renderer, so an entry costs no Swing
+ * component; the controller fills the frames this way. Buttons added one at a time, in bulk or progressively
+ * are placed in a panel, one component each, which only suits small grids. A frame holds one kind or the other.
+ * Searches run as the user types, on a background thread, and only the latest result is shown.
+ * Clicks on a card go to one card action and clicks on a button to one button action.
+ *
+ * @param <T> the type of the entries the cards of the frame stand for
+ * @author Mounir Darwich
+ */
+public abstract class ButtonGridFrame<T> extends JFrame implements ActionListener {
+    /** The number of buttons added per Event Dispatch Thread tick in progressive mode. */
+    public static final int DEFAULT_CHUNK_SIZE = 200;
+    /** The font of the buttons and cards, shared by all of them. */
+    static final Font BUTTON_FONT = new Font("Helvetica", Font.BOLD, 16);
+
+    List<JButton> buttons;
+    JScrollPane scrollPane;
+    JPanel panel;
+    JPanel searchPanel;
+    JTextField searchField;
+    JButton searchButton;
+    Timer searchTimer;
+    CardGrid<T> cardGrid;
+    final TitleSearchIndex searchIndex = new TitleSearchIndex();
+    private final BitSet placed = new BitSet();
+    private final Map<String, List<Integer>> entriesByTitle = new HashMap<>();
+    private final List<Card<T>> cards = new ArrayList<>();
+    private Consumer<JButton> buttonAction;
+    private Consumer<Card<T>> cardAction;
+    private volatile Function<String, List<String>> rankedSearch;
+    private final AtomicLong searchGeneration = new AtomicLong();
+    private ExecutorService searchExecutor;
+    private Future<?> pendingSearch;
+    private boolean reordered;
+    private JLabel noResultsLabel;
+    private int populateGeneration;
+
+    /**
+     * Constructs a ButtonGridFrame.
+     *
+     * @param mainFrame the main frame that created this frame
+     */
+    protected ButtonGridFrame(MainFrame mainFrame) {
+        setupUI();
+        setupSearchComponents();
+
+        this.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        this.setSize(980, 600);
+
+        Toolkit toolkit = getToolkit();
+        Dimension size = toolkit.getScreenSize();
+        setLocation(size.width / 2 - getWidth() / 2, size.height / 2 - getHeight() / 2);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                mainFrame.setVisible(true);
+            }
+        });
+    }
+
+    /**
+     * Sets up the UI components for the frame.
+     */
+    private void setupUI() {
+        panel = createPanel();
+        scrollPane = new JScrollPane(panel, JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED,
+                JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(20);
+        this.add(scrollPane, BorderLayout.CENTER);
+        buttons = new ArrayList<>();
+    }
+
+    /**
+     * Creates the panel the buttons are placed in while the frame is not virtualized.
+     *
+     * @return the empty panel
+     */
+    static JPanel createPanel() {
+        JPanel panel = new JPanel(new GridLayout(0, 3, 10, 10));
+        panel.setBackground(Color.lightGray);
+        panel.setBorder(BorderFactory.createEmptyBorder(30, 30, 30, 30));
+        return panel;
+    }
+
+    /**
+     * Sets up the search components for the frame.
+     */
+    private void setupSearchComponents() {
+        searchPanel = new JPanel(new BorderLayout(5, 5));
+        searchField = new JTextField();
+        searchButton = new JButton("Search");
+        searchButton.addActionListener(this);
+        searchPanel.add(searchField, BorderLayout.CENTER);
+        searchPanel.add(searchButton, BorderLayout.EAST);
+        this.add(searchPanel, BorderLayout.NORTH);
+
+        // Debounce mechanism
+        searchTimer = new Timer(300, e -> searchInBackground(searchField.getText()));
+        searchTimer.setRepeats(false);
+        searchField.addActionListener(e -> searchTimer.restart());
+
+        // Search as you type
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchInBackground(searchField.getText());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchInBackground(searchField.getText());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchInBackground(searchField.getText());
+            }
+        });
+    }
+
+    /**
+     * Adds cards to the frame. The first cards switch the frame to its {@link CardGrid}, which takes any
+     * number of cards at once, since it only paints the visible ones.
+     *
+     * @param newCards the cards to be added
+     * @throws IllegalStateException if the frame already holds buttons
+     */
+    public void addCards(List<Card<T>> newCards) {
+        if (!buttons.isEmpty()) {
+            throw new IllegalStateException("The frame already holds buttons");
+        }
+        for (Card<T> card : newCards) {
+            index(card.getTitle());
+        }
+        cards.addAll(newCards);
+        if (cardGrid == null) {
+            cardGrid = new CardGrid<>();
+            cardGrid.setCardAction(card -> {
+                if (cardAction != null) {
+                    cardAction.accept(card);
+                }
+            });
+            scrollPane.setViewportView(cardGrid);
+        }
+        cardGrid.addCards(newCards);
+        refreshUI();
+    }
+
+    /**
+     * Adds a button to the frame.
+     *
+     * @param button the button to be added
+     * @throws IllegalStateException if the frame already holds cards
+     */
+    public void addButton(JButton button) {
+        register(List.of(button));
+        place(buttons.size() - 1);
+        refreshUI();
+    }
+
+    /**
+     * Adds several buttons to the frame and lays the panel out once, instead of once per button.
+     *
+     * @param newButtons the buttons to be added
+     * @throws IllegalStateException if the frame already holds cards
+     */
+    public void addButtons(List<JButton> newButtons) {
+        int first = buttons.size();
+        register(newButtons);
+        for (int i = first; i < buttons.size(); i++) {
+            place(i);
+        }
+        refreshUI();
+    }
+
+    /**
+     * Adds several buttons to the frame in chunks spread over successive Event Dispatch Thread ticks,
+     * so the first chunk can be painted before the rest is built.
+     * The buttons are part of {@link #getButtons()} right away; only their placement in the panel is deferred.
+     * A search started before all chunks are placed takes over and the remaining chunks are dropped.
+     *
+     * @param newButtons the buttons to be added
+     * @param chunkSize  the number of buttons placed per tick
+     * @throws IllegalStateException if the frame already holds cards
+     */
+    public void addButtonsProgressively(List<JButton> newButtons, int chunkSize) {
+        List<JButton> pending = new ArrayList<>(newButtons);
+        int first = buttons.size();
+        register(pending);
+        addChunk(first, buttons.size(), Math.max(1, chunkSize), populateGeneration);
+    }
+
+    /**
+     * Places one chunk of buttons in the panel and schedules the next one.
+     *
+     * @param from       the index in {@link #buttons} of the first button of this chunk
+     * @param end        the index in {@link #buttons} after the last pending button
+     * @param chunkSize  the number of buttons placed per tick
+     * @param generation the populate generation this chunk belongs to
+     */
+    private void addChunk(int from, int end, int chunkSize, int generation) {
+        if (generation != populateGeneration) {
+            return;
+        }
+        int to = Math.min(end, from + chunkSize);
+        for (int i = from; i < to; i++) {
+            place(i);
+        }
+        refreshUI();
+        if (to < end) {
+            SwingUtilities.invokeLater(() -> addChunk(to, end, chunkSize, generation));
+        }
+    }
+
+    /**
+     * Sets the properties of new buttons, appends them to {@link #buttons} and indexes their titles.
+     *
+     * @param newButtons the buttons to be registered
+     */
+    private void register(List<JButton> newButtons) {
+        if (!cards.isEmpty()) {
+            throw new IllegalStateException("The frame already holds cards");
+        }
+        for (JButton button : newButtons) {
+            setButtonProperties(button);
+            button.addActionListener(this);
+            index(button.getText());
+        }
+        buttons.addAll(newButtons);
+    }
+
+    /**
+     * Indexes the title of the next entry for the title search and the ranked search.
+     *
+     * @param title the title of the new entry
+     */
+    private void index(String title) {
+        int index = searchIndex.add(title);
+        entriesByTitle.computeIfAbsent(title, t -> new ArrayList<>(1)).add(index);
+        titleAdded(title);
+    }
+
+    /**
+     * Called for the title of every card or button added to the frame, so subclasses can index it.
+     *
+     * @param title the title of the new entry
+     */
+    protected void titleAdded(String title) {
+    }
+
+    /**
+     * Appends a registered button to the panel.
+     *
+     * @param index the index of the button in {@link #buttons}
+     */
+    private void place(int index) {
+        panel.add(buttons.get(index));
+        placed.set(index);
+    }
+
+    /**
+     * Sets the properties of a button.
+     *
+     * @param button the button whose properties are to be set
+     */
+    static void setButtonProperties(JButton button) {
+        button.setHorizontalTextPosition(SwingConstants.RIGHT);
+        button.setIconTextGap(5);
+        button.setHorizontalAlignment(SwingConstants.LEFT);
+        button.setFont(BUTTON_FONT);
+    }
+
+    /**
+     * Refreshes the UI of the frame.
+     */
+    void refreshUI() {
+        JComponent view = cardGrid != null ? cardGrid : panel;
+        view.revalidate();
+        view.repaint();
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        if (e.getSource() == searchButton) {
+            searchTimer.restart();
+        } else if (buttonAction != null && e.getSource() instanceof JButton) {
+            buttonAction.accept((JButton) e.getSource());
+        }
+    }
+
+    /**
+     * Sets the action run when one of the buttons of the frame is clicked. One action serves every button.
+     *
+     * @param buttonAction the action receiving the clicked button, or null for none
+     */
+    public void setButtonAction(Consumer<JButton> buttonAction) {
+        this.buttonAction = buttonAction;
+    }
+
+    /**
+     * Sets the action run when one of the cards of the frame is clicked or activated with Enter.
+     * One action serves every card, so the cards need no listeners of their own.
+     *
+     * @param cardAction the action receiving the activated card, or null for none
+     */
+    public void setCardAction(Consumer<Card<T>> cardAction) {
+        this.cardAction = cardAction;
+    }
+
+    /**
+     * Sets a ranked search that finds entries by more than their title, such as a full-text search over
+     * their content. When it finds anything, its results are shown first in the order it ranks them, and the
+     * title matches it did not rank follow in deck order.
+     *
+     * @param rankedSearch the function returning the titles matching a query, most relevant first,
+     *                     or null to search titles only
+     */
+    public void setRankedSearch(Function<String, List<String>> rankedSearch) {
+        this.rankedSearch = rankedSearch;
+    }
+
+    /**
+     * Updates the visibility of cards or buttons based on the search text.
+     * The matches come from the title index; in the panel only the buttons whose visibility changed
+     * are added or removed, and the rest keep their place. When the ranked search finds anything, the
+     * panel is rebuilt in rank order instead, followed by the title matches it did not rank.
+     *
+     * @param searchText the text to search for
+     */
+    void updateButtonVisibility(String searchText) {
+        searchGeneration.incrementAndGet();
+        showSearchResult(runSearch(searchText));
+    }
+
+    /**
+     * Runs a search on the background search thread and shows its result on the Event Dispatch Thread.
+     * Starting a new search cancels the one in flight, and a result is only shown if no newer search
+     * was started in the meantime.
+     *
+     * @param searchText the text to search for
+     */
+    void searchInBackground(String searchText) {
+        long generation = searchGeneration.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+        pendingSearch = searchExecutor().submit(() -> {
+            if (generation != searchGeneration.get()) {
+                return;
+            }
+            SearchResult result = runSearch(searchText);
+            if (generation != searchGeneration.get()) {
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (generation == searchGeneration.get()) {
+                    showSearchResult(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Gets the single daemon thread that runs the searches of this frame, creating it on first use.
+     *
+     * @return the search executor
+     */
+    private ExecutorService searchExecutor() {
+        if (searchExecutor == null) {
+            searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "search-" + getClass().getSimpleName());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return searchExecutor;
+    }
+
+    /**
+     * Queries the title index and the ranked search. Only touches thread-safe indexes, so it can run
+     * off the Event Dispatch Thread.
+     *
+     * @param searchText the text to search for
+     * @return the title matches and the titles found by the ranked search
+     */
+    private SearchResult runSearch(String searchText) {
+        BitSet matches = searchIndex.search(searchText);
+        Function<String, List<String>> ranked = rankedSearch;
+        List<String> rankedTitles = ranked == null || searchText.isBlank()
+                ? List.of() : ranked.apply(searchText.trim());
+        return new SearchResult(matches, rankedTitles);
+    }
+
+    /**
+     * Shows the result of a search in the panel or the virtualized grid.
+     *
+     * @param result the result of the search
+     */
+    private void showSearchResult(SearchResult result) {
+        populateGeneration++;
+        BitSet matches = result.matches;
+        List<Integer> ranked = rankedMatches(result.rankedTitles);
+        if (cardGrid != null) {
+            updateCardGrid(matches, ranked);
+            return;
+        }
+        if (noResultsLabel != null) {
+            panel.remove(noResultsLabel);
+        }
+        if (reordered || !ranked.isEmpty()) {
+            panel.removeAll();
+            placed.clear();
+            reordered = false;
+        }
+        if (!ranked.isEmpty()) {
+            for (int i : ranked) {
+                place(i);
+            }
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (!placed.get(i)) {
+                    place(i);
+                }
+            }
+            reordered = true;
+            refreshUI();
+            return;
+        }
+
+        BitSet changed = (BitSet) placed.clone();
+        changed.xor(matches);
+        int position = 0;
+        int previous = 0;
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            position += placed.get(previous, i).cardinality();
+            previous = i;
+            if (matches.get(i)) {
+                panel.add(buttons.get(i), position);
+            } else {
+                panel.remove(position);
+            }
+            placed.flip(i);
+        }
+
+        if (matches.isEmpty()) {
+            panel.add(noResultsLabel());
+        }
+        refreshUI();
+    }
+
+    /**
+     * Maps the titles found by the ranked search to their cards or buttons.
+     *
+     * @param rankedTitles the titles found by the ranked search, most relevant first
+     * @return the indexes in {@link #cards} or {@link #buttons} of the ranked matches, most relevant first
+     */
+    private List<Integer> rankedMatches(List<String> rankedTitles) {
+        List<Integer> ranked = new ArrayList<>();
+        BitSet seen = new BitSet();
+        for (String title : rankedTitles) {
+            for (int i : entriesByTitle.getOrDefault(title, List.of())) {
+                if (!seen.get(i)) {
+                    seen.set(i);
+                    ranked.add(i);
+                }
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * Shows the matching cards in the virtualized grid: the ranked matches first, then the other title matches.
+     *
+     * @param matches the indexes in {@link #cards} of the title matches
+     * @param ranked  the indexes in {@link #cards} of the ranked matches, most relevant first
+     */
+    private void updateCardGrid(BitSet matches, List<Integer> ranked) {
+        List<Card<T>> shown = new ArrayList<>(matches.cardinality() + ranked.size());
+        BitSet seen = new BitSet();
+        for (int i : ranked) {
+            seen.set(i);
+            shown.add(cards.get(i));
+        }
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            if (!seen.get(i)) {
+                shown.add(cards.get(i));
+            }
+        }
+        cardGrid.setCards(shown);
+        if (shown.isEmpty()) {
+            scrollPane.setViewportView(noResultsLabel());
+        } else if (scrollPane.getViewport().getView() != cardGrid) {
+            scrollPane.setViewportView(cardGrid);
+        }
+        refreshUI();
+    }
+
+    /**
+     * Gets the label shown when a search has no results.
+     *
+     * @return the shared "No results found." label
+     */
+    private JLabel noResultsLabel() {
+        if (noResultsLabel == null) {
+            noResultsLabel = new JLabel("No results found.");
+        }
+        return noResultsLabel;
+    }
+
+    /**
+     * Gets the list of buttons.
+     *
+     * @return the list of buttons
+     */
+    public List<JButton> getButtons() {
+        return buttons;
+    }
+
+    /**
+     * Gets the cards of the frame, in the order they were added, whatever a search currently shows.
+     *
+     * @return an unmodifiable list of the cards
+     */
+    public List<Card<T>> getCards() {
+        return Collections.unmodifiableList(cards);
+    }
+
+    /**
+     * The result of a search: the title matches and the titles found by the ranked search.
+     */
+    private static final class SearchResult {
+        final BitSet matches;
+        final List<String> rankedTitles;
+
+        SearchResult(BitSet matches, List<String> rankedTitles) {
+            this.matches = matches;
+            this.rankedTitles = rankedTitles;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.view;
+
+import javax.swing.Icon;
+
+/**
+ * Card class is one entry of a {@link CardGrid}: the title shown, the icon showing its completion state,
+ * and the entry it stands for, which the grid hands back when the card is activated.
+ * A card is a plain model, not a component: the controller creates one per flashcard or quiz category,
+ * and the grid paints all of them with a single renderer. The icon is shared between cards in the same
+ * state. Cards are only read and changed on the Event Dispatch Thread.
+ *
+ * @param <T> the type of the entry the card stands for
+ * @author Mounir Darwich
+ */
+public final class Card<T> {
+    private final String title;
+    private final T item;
+    private Icon icon;
+
+    /**
+     * Constructs a Card.
+     *
+     * @param title the title shown on the card
+     * @param icon  the icon showing the completion state of the card, or null for none
+     * @param item  the entry the card stands for
+     */
+    public Card(String title, Icon icon, T item) {
+        this.title = title;
+        this.icon = icon;
+        this.item = item;
+    }
+
+    /**
+     * Gets the title shown on the card.
+     *
+     * @return the title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Gets the icon showing the completion state of the card.
+     *
+     * @return the icon, or null for none
+     */
+    public Icon getIcon() {
+        return icon;
+    }
+
+    /**
+     * Sets the icon showing the completion state of the card. The grid showing it has to be repainted.
+     *
+     * @param icon the new icon, or null for none
+     */
+    public void setIcon(Icon icon) {
+        this.icon = icon;
+    }
+
+    /**
+     * Gets the entry the card stands for.
+     *
+     * @return the entry
+     */
+    public T getItem() {
+        return item;
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.view;
+
+import javax.swing.AbstractListModel;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JList;
+import javax.swing.KeyStroke;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingConstants;
+import javax.swing.AbstractAction;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Rectangle;
+import java.awt.event.ActionEvent;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * CardGrid class is a virtualized grid of cards with a fixed cell height.
+ * It extends JList and only paints the cells that are visible, using one shared renderer button as a
+ * rubber stamp, so its layout and paint cost do not grow with the number of cards.
+ * Each card is a lightweight {@link Card} holding its title, icon and entry. Clicking a card or activating
+ * it with Enter hands it to the one card action of the grid, so cards need no listeners of their own and
+ * replacing the shown cards after a search touches nothing but the model.
+ *
+ * @param <T> the type of the entries the cards stand for
+ * @author Mounir Darwich
+ */
+public class CardGrid<T> extends JList<Card<T>> {
+    static final int COLUMNS = 3;
+    static final int CELL_HEIGHT = 40;
+    private static final int GAP = 10;
+
+    private final CardModel<T> model = new CardModel<>();
+    private Consumer<Card<T>> cardAction = card -> { };
+
+    /**
+     * Constructs an empty CardGrid.
+     */
+    public CardGrid() {
+        setModel(model);
+        setLayoutOrientation(JList.HORIZONTAL_WRAP);
+        setVisibleRowCount(0);
+        setFixedCellHeight(CELL_HEIGHT + GAP);
+        setFixedCellWidth(300);
+        setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        setBackground(Color.lightGray);
+        setBorder(BorderFactory.createEmptyBorder(30, 30, 30, 30));
+        setCellRenderer(new CardRenderer<>());
+
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                int width = getWidth() - getInsets().left - getInsets().right;
+                setFixedCellWidth(Math.max(1, width / COLUMNS));
+            }
+        });
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = locationToIndex(e.getPoint());
+                Rectangle bounds = index < 0 ? null : getCellBounds(index, index);
+                if (bounds != null && bounds.contains(e.getPoint())) {
+                    activate(index);
+                }
+            }
+        });
+        getInputMap(JComponent.WHEN_FOCUSED).put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "activate");
+        getActionMap().put("activate", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                activate(getSelectedIndex());
+            }
+        });
+    }
+
+    /**
+     * Replaces the cards shown by the grid.
+     *
+     * @param cards the cards, in display order
+     */
+    public void setCards(List<Card<T>> cards) {
+        model.setCards(new ArrayList<>(cards));
+    }
+
+    /**
+     * Appends cards to the ones shown by the grid.
+     *
+     * @param cards the cards to append
+     */
+    public void addCards(List<Card<T>> cards) {
+        model.addCards(cards);
+    }
+
+    /**
+     * Gets the cards currently shown by the grid.
+     *
+     * @return an unmodifiable list of the shown cards
+     */
+    public List<Card<T>> getCards() {
+        return Collections.unmodifiableList(model.cards);
+    }
+
+    /**
+     * Sets the action run when a card is clicked or activated with Enter.
+     *
+     * @param cardAction the action receiving the activated card
+     */
+    public void setCardAction(Consumer<Card<T>> cardAction) {
+        this.cardAction = cardAction;
+    }
+
+    /**
+     * Runs the card action on the card at the given index, as if it had been clicked.
+     *
+     * @param index the index of the card
+     */
+    void activate(int index) {
+        if (index < 0 || index >= model.getSize()) {
+            return;
+        }
+        cardAction.accept(model.getElementAt(index));
+    }
+
+    /**
+     * The list model holding the shown cards.
+     */
+    private static final class CardModel<T> extends AbstractListModel<Card<T>> {
+        private List<Card<T>> cards = new ArrayList<>();
+
+        void setCards(List<Card<T>> newCards) {
+            int oldSize = cards.size();
+            cards = newCards;
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            if (!newCards.isEmpty()) {
+                fireIntervalAdded(this, 0, newCards.size() - 1);
+            }
+        }
+
+        void addCards(List<Card<T>> newCards) {
+            if (newCards.isEmpty()) {
+                return;
+            }
+            int from = cards.size();
+            cards.addAll(newCards);
+            fireIntervalAdded(this, from, cards.size() - 1);
+        }
+
+        @Override
+        public int getSize() {
+            return cards.size();
+        }
+
+        @Override
+        public Card<T> getElementAt(int index) {
+            return cards.get(index);
+        }
+    }
+
+    /**
+     * Paints every visible cell with one shared button, copying the title and icon of the card.
+     */
+    private static final class CardRenderer<T> implements ListCellRenderer<Card<T>> {
+        private final JButton stamp = new JButton();
+
+        CardRenderer() {
+            stamp.setHorizontalTextPosition(SwingConstants.RIGHT);
+            stamp.setIconTextGap(5);
+            stamp.setHorizontalAlignment(SwingConstants.LEFT);
+            stamp.setFont(ButtonGridFrame.BUTTON_FONT);
+            stamp.setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createEmptyBorder(GAP / 2, GAP / 2, GAP / 2, GAP / 2),
+                    stamp.getBorder()));
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends Card<T>> list, Card<T> card, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            stamp.setText(card.getTitle());
+            stamp.setIcon(card.getIcon());
+            stamp.getModel().setRollover(isSelected);
+            stamp.setSelected(isSelected);
+            return stamp;
+        }
+    }
+}
@@ -26,7 +26,7 @@ public class DetailFrame extends JFrame {
      *
      * @param title        the title of the frame
      * @param info         the detailed information to be displayed
-     * @param linkedButton the button linked to this detail frame
+     * @param linkedButton the button linked to this detail frame, or null if it was opened from a card
      */
     public DetailFrame(String title, String info, JButton linkedButton) {
         super(title);
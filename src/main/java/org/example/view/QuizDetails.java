@@ -1,5 +1,6 @@
 package org.example.view;
 
+import javax.swing.AbstractButton;
 import javax.swing.JFrame;
 import javax.swing.JButton;
 import javax.swing.JPanel;
@@ -14,6 +15,7 @@ import java.awt.FlowLayout;
 import java.awt.Component;
 import java.awt.Font;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
 
 /**
@@ -33,7 +35,7 @@ public class QuizDetails extends JFrame {
     /**
      * Constructs a QuizDetails frame.
      *
-     * @param sourceButton the button that triggered the creation of this frame
+     * @param sourceButton the button that triggered the creation of this frame, or null if it was a card
      */
     public QuizDetails(JButton sourceButton) {
         super("Quiz Details");
@@ -98,6 +100,26 @@ public class QuizDetails extends JFrame {
         return questionGroups;
     }
 
+    /**
+     * Gets the index of the selected choice of every question, in question order.
+     *
+     * @return the selected choice index for each question, or -1 where no choice is selected
+     */
+    public int[] getSelectedChoices() {
+        int[] selected = new int[questionGroups.size()];
+        for (int q = 0; q < selected.length; q++) {
+            selected[q] = -1;
+            Enumeration<AbstractButton> choices = questionGroups.get(q).getElements();
+            for (int index = 0; choices.hasMoreElements(); index++) {
+                if (choices.nextElement().isSelected()) {
+                    selected[q] = index;
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
     /**
      * Creates a question panel with the given question, options, and correct answer index.
      *
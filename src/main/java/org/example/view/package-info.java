@@ -2,6 +2,9 @@
  * This package contains the view components of the application.
  *
  * It includes the following classes:
+ * - ButtonGridFrame: Common base of the frames that show a searchable grid of cards or buttons.
+ * - Card: Lightweight entry of a CardGrid: title, completion icon and the entry it stands for.
+ * - CardGrid: Virtualized grid that only paints the visible cards of a large deck.
  * - DetailFrame: Represents a detailed information window.
  * - FlashcardFrame: Represents a frame that displays a list of flashcards.
  * - MainFrame: Represents the main window of the application.
@@ -0,0 +1,111 @@
+package org.example.controller;
+
+import org.junit.jupiter.api.Test;
+import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.model.ProgressStore;
+import org.example.view.Card;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ButtonIndex class.
+ */
+class ButtonIndexTest {
+    private final ImageIcon greenIcon = new ImageIcon(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+    private final ImageIcon grayIcon = new ImageIcon(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+
+    /**
+     * Tests that states are applied to the cards with the matching title.
+     */
+    @Test
+    void testApplyStates() {
+        Card<String> first = card("First");
+        Card<String> second = card("Second");
+        ButtonIndex<String> index = ButtonIndex.of(List.of(first, second));
+
+        JSONArray states = new JSONArray()
+                .put(state("Second", "green"))
+                .put(state("Missing", "green"));
+
+        assertEquals(1, index.applyStates(states, greenIcon, grayIcon));
+        assertNull(first.getIcon());
+        assertSame(greenIcon, second.getIcon());
+    }
+
+    /**
+     * Tests that completion bits are applied to the cards by title and occurrence.
+     */
+    @Test
+    void testApplyProgress() {
+        Card<String> first = card("Loops");
+        Card<String> second = card("Loops");
+        Card<String> other = card("Streams");
+        ButtonIndex<String> index = ButtonIndex.of(List.of(first, second, other));
+        ProgressStore store = new ProgressStore("buttonIndexTest");
+        store.setDone(store.id("Loops", 1), true);
+
+        assertEquals(1, index.applyProgress(store, greenIcon, grayIcon));
+        assertSame(grayIcon, first.getIcon());
+        assertSame(greenIcon, second.getIcon());
+        assertSame(grayIcon, other.getIcon());
+        assertEquals(3, store.size());
+    }
+
+    /**
+     * Tests that states for duplicate titles go to the cards in order, or to the occurrence named by "n".
+     */
+    @Test
+    void testDuplicateTitlesAreRestoredDeterministically() {
+        Card<String> a = card("Loops");
+        Card<String> b = card("Loops");
+        Card<String> c = card("Loops");
+        ButtonIndex<String> index = ButtonIndex.of(List.of(a, b, c));
+
+        index.applyStates(new JSONArray().put(state("Loops", "gray")).put(state("Loops", "green")),
+                greenIcon, grayIcon);
+        assertSame(grayIcon, a.getIcon());
+        assertSame(greenIcon, b.getIcon());
+        assertNull(c.getIcon());
+
+        index.applyStates(new JSONArray().put(state("Loops", "green").put("n", 2)), greenIcon, grayIcon);
+        assertSame(greenIcon, c.getIcon());
+        assertSame(grayIcon, a.getIcon());
+    }
+
+    /**
+     * Regression test for restore time: 50k states over 50k cards must finish quickly, which a scan of
+     * every card per state could not.
+     */
+    @Test
+    void testRestoreIsLinear() {
+        int count = 50_000;
+        List<Card<String>> cards = new ArrayList<>(count);
+        JSONArray states = new JSONArray();
+        for (int i = 0; i < count; i++) {
+            cards.add(card("Card " + i));
+            states.put(state("Card " + (count - 1 - i), "green"));
+        }
+
+        int applied = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> ButtonIndex.of(cards).applyStates(states, greenIcon, grayIcon));
+        assertEquals(count, applied);
+        assertSame(greenIcon, cards.get(0).getIcon());
+    }
+
+    private static Card<String> card(String title) {
+        return new Card<>(title, null, title);
+    }
+
+    private static JSONObject state(String text, String icon) {
+        JSONObject state = new JSONObject();
+        state.put("text", text);
+        state.put("icon", icon);
+        return state;
+    }
+}
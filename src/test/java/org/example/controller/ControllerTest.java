@@ -2,11 +2,15 @@ package org.example.controller;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import javax.swing.ImageIcon;
-import javax.swing.JButton;
+import org.example.model.Flashcard;
+import org.example.view.Card;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.nio.file.Path;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -16,12 +20,16 @@ import static org.junit.jupiter.api.Assertions.*;
 public class ControllerTest {
     private Controller controller;
 
+    @TempDir
+    Path directory;
+
     /**
-     * Sets up the test environment before each test.
+     * Sets up the test environment before each test, keeping the saved button states in the test directory.
      */
     @BeforeEach
     void setUp() {
-        controller = new Controller();
+        controller = new Controller(StartupData.load(directory.resolve("button_states.json").toString(),
+                directory.resolve("button_states_quiz.json").toString()));
     }
 
     /**
@@ -36,31 +44,34 @@ public class ControllerTest {
     }
 
     /**
-     * Tests that the loadFlashcardsButtonStates method populates the buttonInfoMap.
+     * Tests that the loadFlashcardsButtonStates method leaves the flashcard cards in place with an icon.
      */
     @Test
-    void testLoadFlashcardsButtonStatesShouldNotLeaveButtonInfoMapEmpty() {
+    void testLoadFlashcardsButtonStatesShouldNotLeaveCardsEmpty() {
         controller.loadFlashcardsButtonStates();
-        assertFalse(controller.buttonInfoMap.isEmpty(), "Button info map should not be empty after loading states");
+        assertFalse(controller.mainFrame.getFlashcardFrame().getCards().isEmpty(),
+                "Flashcard cards should not be empty after loading states");
+        assertNotNull(controller.mainFrame.getFlashcardFrame().getCards().get(0).getIcon());
     }
 
     /**
-     * Tests that the loadQuizButtonStates method populates the quizButtonInfoMap.
+     * Tests that the loadQuizButtonStates method leaves the quiz cards in place with an icon.
      */
     @Test
-    void testLoadQuizButtonStatesShouldNotLeaveQuizButtonInfoMapEmpty() {
+    void testLoadQuizButtonStatesShouldNotLeaveQuizCardsEmpty() {
         controller.loadQuizButtonStates();
-        assertFalse(controller.quizButtonInfoMap.isEmpty(), "Quiz button info map should not be empty after loading states");
+        assertFalse(controller.mainFrame.getQuizFrame().getCards().isEmpty(),
+                "Quiz cards should not be empty after loading states");
+        assertNotNull(controller.mainFrame.getQuizFrame().getCards().get(0).getIcon());
     }
 
     /**
-     * Tests that the applyButtonStates method sets the correct icon for buttons.
+     * Tests that the applyButtonStates method sets the correct icon for cards.
      */
     @Test
     void testApplyButtonStatesShouldSetCorrectIcon() {
-        // Prepare test environment: Initialize buttons with one having the text "buttonText"
-        JButton testButton = new JButton("buttonText");
-        controller.mainFrame.getFlashcardFrame().getButtons().add(testButton);
+        // Prepare test environment: add a card with the title "buttonText"
+        controller.createButtonForFlashcardFrame(new Flashcard("buttonText", "Test info"));
 
         // Prepare JSON state data
         JSONArray buttonStates = new JSONArray();
@@ -70,16 +81,16 @@ public class ControllerTest {
         buttonStates.put(buttonState);
 
         // Apply the states
-        controller.applyButtonStates(buttonStates, controller.mainFrame.getFlashcardFrame().getButtons());
+        controller.applyButtonStates(buttonStates, controller.mainFrame.getFlashcardFrame().getCards());
 
-        // Assert that the button now has the green icon
-        JButton button = controller.mainFrame.getFlashcardFrame().getButtons().stream()
-                .filter(b -> "buttonText".equals(b.getText()))
+        // Assert that the card now has the green icon
+        Card<Flashcard> card = controller.mainFrame.getFlashcardFrame().getCards().stream()
+                .filter(c -> "buttonText".equals(c.getTitle()))
                 .findFirst()
                 .orElse(null);
 
-        assertNotNull(button, "Button should exist for given text");
-        assertEquals(controller.greenIcon, button.getIcon(), "Button icon should be green");
+        assertNotNull(card, "Card should exist for given text");
+        assertEquals(controller.greenIcon, card.getIcon(), "Card icon should be green");
     }
 
     /**
@@ -87,9 +98,8 @@ public class ControllerTest {
      */
     @Test
     void testShowDetailFrameShouldNotThrowException() {
-        JButton button = new JButton("Test");
-        controller.buttonInfoMap.put(button, "Test info");
-        assertDoesNotThrow(() -> controller.showDetailFrame(button), "Showing detail frame should not throw exception");
+        Card<Flashcard> card = new Card<>("Test", null, new Flashcard("Test", "Test info"));
+        assertDoesNotThrow(() -> controller.showDetailFrame(card), "Showing detail frame should not throw exception");
     }
 
     /**
@@ -97,9 +107,8 @@ public class ControllerTest {
      */
     @Test
     void testShowQuizDetailsShouldNotThrowException() {
-        JButton button = new JButton("Test");
-        controller.quizButtonInfoMap.put(button, "Test quiz");
-        assertDoesNotThrow(() -> controller.showQuizDetails(button), "Showing quiz details should not throw exception");
+        Card<String> card = new Card<>("Test", null, "Test quiz");
+        assertDoesNotThrow(() -> controller.showQuizDetails(card), "Showing quiz details should not throw exception");
     }
 
     /**
@@ -0,0 +1,186 @@
+package org.example.controller;
+
+import org.example.model.MultiUserProgressStore;
+import org.example.model.QuizData;
+import org.example.model.QuizQuestion;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the QuizServer class.
+ */
+class QuizServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private QuizData quizData;
+    private QuizServer server;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Starts a server on a free port.
+     * @throws IOException if the server cannot be started.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        quizData = new QuizData();
+        server = new QuizServer(quizData, 0);
+        server.start();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+
+    private static String query(String category) {
+        return "?category=" + URLEncoder.encode(category, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tests that the categories are listed in order.
+     * @throws Exception if the request fails.
+     */
+    @Test
+    void testCategories() throws Exception {
+        HttpResponse<String> response = get("/categories");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(new JSONArray(quizData.getOrderedCategoryKeys()).toString(), response.body());
+    }
+
+    /**
+     * Tests that questions are served with their choices but without the correct answers.
+     * @throws Exception if the request fails.
+     */
+    @Test
+    void testQuestionsHideCorrectAnswers() throws Exception {
+        String category = quizData.getOrderedCategoryKeys().get(0);
+        List<QuizQuestion> questions = quizData.getQuestionsForCategory(category);
+
+        HttpResponse<String> response = get("/questions" + query(category));
+
+        assertEquals(200, response.statusCode());
+        JSONObject body = new JSONObject(response.body());
+        assertEquals(category, body.getString("category"));
+        JSONArray served = body.getJSONArray("questions");
+        assertEquals(questions.size(), served.length());
+        assertEquals(questions.get(0).getQuestionText(), served.getJSONObject(0).getString("questionText"));
+        assertEquals(questions.get(0).getChoices().size(), served.getJSONObject(0).getJSONArray("choices").length());
+        assertFalse(served.getJSONObject(0).has("correctAnswerIndex"));
+        assertEquals(404, get("/questions" + query("No such category")).statusCode());
+    }
+
+    /**
+     * Tests that a posted attempt is graded and that malformed attempts and wrong methods are rejected.
+     * @throws Exception if the request fails.
+     */
+    @Test
+    void testAnswers() throws Exception {
+        String category = quizData.getOrderedCategoryKeys().get(0);
+        JSONArray allCorrect = new JSONArray();
+        quizData.getQuestionsForCategory(category).forEach(q -> allCorrect.put(q.getCorrectAnswerIndex()));
+
+        HttpResponse<String> response = post("/answers" + query(category), allCorrect.toString());
+
+        assertEquals(200, response.statusCode());
+        JSONObject result = new JSONObject(response.body());
+        assertEquals(allCorrect.length(), result.getInt("correct"));
+        assertEquals(0, result.getInt("incorrect"));
+        assertEquals(allCorrect.length() >= 5, result.getBoolean("passed"));
+        assertEquals(400, post("/answers" + query(category), "[\"a\"]").statusCode());
+        assertEquals(405, get("/answers" + query(category)).statusCode());
+    }
+
+    /**
+     * Tests that many clients can be served at the same time.
+     */
+    @Test
+    void testConcurrentClients() {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            responses.add(client.sendAsync(HttpRequest.newBuilder(uri("/categories")).build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+    }
+
+    /**
+     * Tests that a passed attempt of a named user is recorded and listed as that user's progress, also after
+     * a restart, and that overlong user names are rejected.
+     * @throws Exception if the request fails.
+     */
+    @Test
+    void testProgress() throws Exception {
+        server.stop(0);
+        server = new QuizServer(quizData, 0, new MultiUserProgressStore(directory.toString()));
+        server.start();
+        String category = quizData.getOrderedCategoryKeys().get(0);
+        JSONArray allCorrect = new JSONArray();
+        quizData.getQuestionsForCategory(category).forEach(q -> allCorrect.put(q.getCorrectAnswerIndex()));
+        JSONArray noneAnswered = new JSONArray();
+        allCorrect.forEach(answer -> noneAnswered.put(-1));
+
+        post("/answers" + query(category) + "&user=bob", noneAnswered.toString());
+        post("/answers" + query(category) + "&user=alice", allCorrect.toString());
+        String longUser = "a".repeat(MultiUserProgressStore.MAX_USER_BYTES + 1);
+        assertEquals(400, post("/answers" + query(category) + "&user=" + longUser, allCorrect.toString()).statusCode());
+
+        assertEquals(new JSONArray(List.of(category)).toString(), get("/progress?user=alice").body());
+        assertEquals("[]", get("/progress?user=bob").body());
+        assertEquals(400, get("/progress").statusCode());
+        assertEquals(400, get("/progress?user=" + longUser).statusCode());
+
+        server.stop(0);
+        server = new QuizServer(quizData, 0, new MultiUserProgressStore(directory.toString()));
+        server.start();
+        assertEquals(new JSONArray(List.of(category)).toString(), get("/progress?user=alice").body());
+    }
+
+    /**
+     * Tests that progress is not found when the server records none, whatever user is named.
+     * @throws Exception if the request fails.
+     */
+    @Test
+    void testProgressWithoutStore() throws Exception {
+        assertEquals(404, get("/progress?user=alice").statusCode());
+        assertEquals(404, get("/progress?user=" + "a".repeat(MultiUserProgressStore.MAX_USER_BYTES + 1)).statusCode());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
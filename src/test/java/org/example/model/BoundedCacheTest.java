@@ -0,0 +1,72 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BoundedCache class.
+ */
+class BoundedCacheTest {
+
+    /**
+     * Tests that the least recently used entry is evicted when the entry limit is reached.
+     */
+    @Test
+    void testEvictsLeastRecentlyUsedEntry() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, Long.MAX_VALUE, String::length);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        assertEquals("1", cache.get("a"));
+        cache.put("c", "3");
+
+        assertNull(cache.get("b"));
+        assertEquals("1", cache.get("a"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    /**
+     * Tests that entries are evicted when the weight limit is exceeded, but the newest entry is kept.
+     */
+    @Test
+    void testEvictsByWeight() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 10, String::length);
+        cache.put("a", "12345");
+        cache.put("b", "12345");
+        cache.put("c", "123");
+
+        assertNull(cache.get("a"));
+        assertEquals(8, cache.stats().getWeight());
+
+        cache.put("big", "123456789012");
+        assertEquals("123456789012", cache.get("big"));
+        assertEquals(1, cache.stats().getSize());
+    }
+
+    /**
+     * Tests the hit and miss counters.
+     */
+    @Test
+    void testStatsCountHitsAndMisses() {
+        BoundedCache<String, String> cache = new BoundedCache<>(4, 100, String::length);
+        cache.get("missing");
+        cache.put("key", "value");
+        cache.get("key");
+        cache.put("key", "other");
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+        assertEquals(5, stats.getWeight());
+    }
+
+    /**
+     * Tests that non-positive limits are rejected.
+     */
+    @Test
+    void testRejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, String>(0, 10, String::length));
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ChoicePool class.
+ */
+class ChoicePoolTest {
+
+    /**
+     * Tests that equal choices share one id and one String instance.
+     */
+    @Test
+    void testInternDeduplicatesChoices() {
+        ChoicePool pool = new ChoicePool();
+        int first = pool.intern("True");
+        int second = pool.intern(new String("True"));
+
+        assertEquals(first, second);
+        assertNotEquals(first, pool.intern("False"));
+        assertEquals(2, pool.size());
+        assertSame(pool.get(first), pool.get(second));
+    }
+
+    /**
+     * Tests that a view reads through to the pool and cannot be modified.
+     */
+    @Test
+    void testViewIsReadOnlyAndBackedByPool() {
+        ChoicePool pool = new ChoicePool();
+        int[] ids = {pool.intern("A"), pool.intern("B"), pool.intern("A")};
+        List<String> choices = pool.view(ids);
+
+        assertEquals(List.of("A", "B", "A"), choices);
+        assertThrows(UnsupportedOperationException.class, () -> choices.add("C"));
+    }
+
+    /**
+     * Tests, with JOL, that pooled questions retain less heap than questions holding their own choice lists
+     * when choices repeat across the bank.
+     */
+    @Test
+    void testPooledQuestionsRetainLessHeap() {
+        String[] common = {"True", "False", "All of the above", "None of the above", "int", "String"};
+        ChoicePool pool = new ChoicePool();
+        List<QuizQuestion> copied = new ArrayList<>();
+        List<QuizQuestion> pooled = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            List<String> choices = new ArrayList<>();
+            int[] ids = new int[4];
+            for (int j = 0; j < 4; j++) {
+                // new String(...) mimics the fresh instances a parser creates for every occurrence
+                String choice = new String(common[(i + j) % common.length]);
+                choices.add(choice);
+                ids[j] = pool.intern(choice);
+            }
+            copied.add(new QuizQuestion("Question " + i, choices, 0));
+            pooled.add(new QuizQuestion("Question " + i, pool, ids, 0));
+        }
+
+        long copiedBytes = GraphLayout.parseInstance(copied).totalSize();
+        long pooledBytes = GraphLayout.parseInstance(pooled).totalSize();
+
+        assertTrue(pooledBytes < copiedBytes, "Pooled " + pooledBytes + " bytes, copied " + copiedBytes + " bytes");
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.model;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DataSnapshot class.
+ */
+class DataSnapshotTest {
+
+    private String flashcardsPath;
+    private String questionsPath;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Copies the test data files into the test directory, where their snapshots are written next to them.
+     * @throws IOException if an I/O error occurs.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        flashcardsPath = copyResource("flashcardsInfoTest.json");
+        questionsPath = copyResource("questionsTest.json");
+    }
+
+    private String copyResource(String name) throws IOException {
+        Path path = directory.resolve(name);
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(name)) {
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Tests that a compiled flashcards snapshot holds the same titles and Info texts as the JSON file.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testCompileAndReadFlashcards() throws IOException {
+        Path path = DataSnapshot.compile(flashcardsPath, DataSnapshot.FLASHCARDS);
+        DataSnapshot snapshot = DataSnapshot.openFor(flashcardsPath, DataSnapshot.FLASHCARDS);
+
+        assertEquals(directory.resolve("flashcardsInfoTest.json.snap"), path);
+        assertTrue(Files.exists(path));
+        assertNotNull(snapshot);
+        assertEquals(2, snapshot.cardCount());
+        assertEquals("Test Title 2", snapshot.cardTitle(1));
+        assertEquals("Test Info 2", snapshot.string(snapshot.cardInfoId(1)));
+
+        List<JSONObject> flashcards = new DatabaseJson(flashcardsPath).getData();
+        assertEquals("Test Title 1", flashcards.get(0).getString("Title"));
+        assertEquals("Test Info 1", flashcards.get(0).getString("Info"));
+    }
+
+    /**
+     * Tests that a compiled questions snapshot is used by QuizData in both eager and lazy mode.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testCompileAndReadQuestions() throws IOException {
+        DataSnapshot.compile(questionsPath, DataSnapshot.QUESTIONS);
+
+        for (boolean lazy : new boolean[]{false, true}) {
+            QuizData quizData = new QuizData(questionsPath, lazy);
+            assertEquals(List.of("Category 1", "Category 2"), quizData.getOrderedCategoryKeys());
+            QuizQuestion question = quizData.getQuestionsForCategory("Category 2").get(0);
+            assertEquals("Question 2", question.getQuestionText());
+            assertEquals(List.of("Choice 3", "Choice 4"), question.getChoices());
+            assertEquals(1, question.getCorrectAnswerIndex());
+        }
+    }
+
+    /**
+     * Tests that a snapshot compiled for another version of the source file is ignored.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testStaleSnapshotIsIgnored() throws IOException {
+        Path path = DataSnapshot.snapshotPath(questionsPath);
+        String json = "[{\"category\":\"Old\",\"questions\":[]}]";
+        DataSnapshot.write(new JsonStreamReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))),
+                DataSnapshot.QUESTIONS, new long[]{1, 2}, path);
+
+        assertNull(DataSnapshot.openFor(questionsPath, DataSnapshot.QUESTIONS));
+        assertNotNull(DataSnapshot.open(path, DataSnapshot.QUESTIONS, new long[]{1, 2}));
+        assertNull(DataSnapshot.open(path, DataSnapshot.FLASHCARDS, null));
+        assertEquals(List.of("Category 1", "Category 2"), new QuizData(questionsPath, true).getOrderedCategoryKeys());
+    }
+
+    /**
+     * Tests that a truncated or damaged snapshot is rejected when it is opened and rebuilt from the JSON file.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testDamagedSnapshotIsRebuilt() throws IOException {
+        Path path = DataSnapshot.compile(questionsPath, DataSnapshot.QUESTIONS);
+        byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(IOException.class, () -> DataSnapshot.open(path, DataSnapshot.QUESTIONS, null));
+
+        byte[] damaged = bytes.clone();
+        ByteBuffer.wrap(damaged).putInt(ByteBuffer.wrap(bytes).getInt(32) + 4, 1_000_000);
+        Files.write(path, damaged);
+        assertThrows(IOException.class, () -> DataSnapshot.open(path, DataSnapshot.QUESTIONS, null));
+
+        DataSnapshot rebuilt = DataSnapshot.openFor(questionsPath, DataSnapshot.QUESTIONS);
+        assertNotNull(rebuilt);
+        assertEquals("Category 1", rebuilt.categoryName(0));
+        assertArrayEquals(bytes, Files.readAllBytes(path));
+    }
+}
@@ -1,10 +1,13 @@
 package org.example.model;
 
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
@@ -16,7 +19,10 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class DatabaseJsonTest {
 
-    private static final String TEST_JSON_PATH = "flashcardsInfoTest.json";
+    private String testJsonPath;
+
+    @TempDir
+    Path directory;
 
     /**
      * Sets up the test environment by creating a test JSON file before each test.
@@ -24,13 +30,11 @@ public class DatabaseJsonTest {
      */
     @BeforeEach
     void setUp() throws IOException {
-        // Ensure the test directory exists
-        Files.createDirectories(Paths.get("src/test/resources"));
-
         // Prepare test JSON file content
         String jsonContent = "[{\"Title\":\"Test Title 1\",\"Info\":\"Test Info 1\"}," +
                 "{\"Title\":\"Test Title 2\",\"Info\":\"Test Info 2\"}]";
-        Files.write(Paths.get(TEST_JSON_PATH), jsonContent.getBytes());
+        testJsonPath = directory.resolve("flashcardsInfoTest.json").toString();
+        Files.write(Paths.get(testJsonPath), jsonContent.getBytes());
     }
 
     /**
@@ -38,7 +42,7 @@ public class DatabaseJsonTest {
      */
     @Test
     public void testLoadFlashcards() {
-        DatabaseJson databaseJson = new DatabaseJson(TEST_JSON_PATH);
+        DatabaseJson databaseJson = new DatabaseJson(testJsonPath);
         List<JSONObject> flashcards = databaseJson.loadFlashcards();
 
         // Verify the flashcards are loaded successfully
@@ -55,7 +59,7 @@ public class DatabaseJsonTest {
      */
     @Test
     public void testGetData() {
-        DatabaseJson databaseJson = new DatabaseJson(TEST_JSON_PATH);
+        DatabaseJson databaseJson = new DatabaseJson(testJsonPath);
         List<JSONObject> flashcards = databaseJson.getData();
 
         // Assert that data size is consistent with expected amount
@@ -68,4 +72,93 @@ public class DatabaseJsonTest {
         assertEquals("Test Title 2", flashcards.get(1).getString("Title"));
         assertEquals("Test Info 2", flashcards.get(1).getString("Info"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that getData reads the Info texts in one pass over the file instead of fetching them one by one.
+     */
+    @Test
+    public void testGetDataReadsInfosInOnePass() {
+        DatabaseJson databaseJson = new DatabaseJson(testJsonPath);
+        List<JSONObject> flashcards = databaseJson.getData();
+
+        assertEquals("Test Info 2", flashcards.get(1).getString("Info"));
+        assertEquals(0, databaseJson.getInfoCacheStats().getMissCount());
+    }
+
+    /**
+     * Tests the getFlashcards method of DatabaseJson to ensure it returns typed flashcards.
+     */
+    @Test
+    public void testGetFlashcards() {
+        DatabaseJson databaseJson = new DatabaseJson(testJsonPath);
+        List<Flashcard> flashcards = databaseJson.getFlashcards();
+
+        assertEquals(2, flashcards.size());
+        assertEquals("Test Title 1", flashcards.get(0).getTitle());
+        assertEquals("Test Info 1", flashcards.get(0).getInfo());
+        assertEquals("Test Title 2", flashcards.get(1).getTitle());
+        assertEquals("Test Info 2", flashcards.get(1).getInfo());
+    }
+
+    /**
+     * Tests that Info texts are fetched on demand through the bounded Info cache.
+     */
+    @Test
+    public void testInfoIsLoadedOnDemand() {
+        DatabaseJson databaseJson = new DatabaseJson(testJsonPath);
+        Flashcard flashcard = databaseJson.getFlashcards().get(1);
+
+        assertEquals(0, databaseJson.getInfoCacheStats().getSize());
+        assertEquals("Test Info 2", flashcard.getInfo());
+        assertEquals("Test Info 2", flashcard.getInfo());
+        assertEquals(1, databaseJson.getInfoCacheStats().getMissCount());
+        assertEquals(1, databaseJson.getInfoCacheStats().getHitCount());
+    }
+
+    /**
+     * Tests that the Info texts are indexed for full-text search and that an unchanged deck is not reindexed.
+     */
+    @Test
+    public void testIndexInfos() {
+        DatabaseJson databaseJson = new DatabaseJson(testJsonPath);
+        FullTextIndex index = new FullTextIndex();
+
+        assertEquals(2, databaseJson.indexInfos(index));
+        assertEquals(List.of("Test Title 1", "Test Title 2"), index.search("info", 10));
+        assertEquals(0, databaseJson.indexInfos(index));
+    }
+
+    /**
+     * Tests that reloading a modified file reindexes only the cards whose text changed, drops removed cards
+     * and ranks title words together with the text.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void testReloadReindexesChangedCards() throws IOException {
+        Files.write(Paths.get(testJsonPath), ("[{\"Title\":\"Streams\",\"Info\":\"Lazy pipelines of values\"},"
+                + "{\"Title\":\"Lambdas\",\"Info\":\"Functions passed to streams\"},"
+                + "{\"Title\":\"Records\",\"Info\":\"Immutable data carriers\"}]").getBytes());
+        FullTextIndex index = new FullTextIndex();
+        assertEquals(3, new DatabaseJson(testJsonPath).indexInfos(index));
+        assertEquals(List.of("Streams", "Lambdas"), index.search("stream", 10));
+
+        Files.write(Paths.get(testJsonPath), ("[{\"Title\":\"Streams\",\"Info\":\"Lazy pipelines of values\"},"
+                + "{\"Title\":\"Lambdas\",\"Info\":\"Anonymous functions\"},"
+                + "{\"Title\":\"Optional\",\"Info\":\"A value that may be absent\"}]").getBytes());
+        assertEquals(2, new DatabaseJson(testJsonPath).indexInfos(index));
+        assertEquals(List.of("Streams"), index.search("stream", 10));
+        assertEquals(List.of(), index.search("immutable", 10));
+        assertEquals(List.of("Optional"), index.search("absent", 10));
+    }
+
+    /**
+     * Tests that a malformed file fails to load instead of loading partially.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void testMalformedFileThrows() throws IOException {
+        Files.write(Paths.get(testJsonPath), "[{\"Title\":\"Test Title 1\",\"Info\":\"Test Info 1\"},]".getBytes());
+
+        assertThrows(JSONException.class, () -> new DatabaseJson(testJsonPath));
+    }
+}
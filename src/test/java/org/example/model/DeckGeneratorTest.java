@@ -0,0 +1,135 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DeckGenerator class.
+ */
+class DeckGeneratorTest {
+
+    @TempDir
+    Path directory;
+
+    private static String flashcards(DeckGenerator generator) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = new JsonStreamWriter(out)) {
+            generator.writeFlashcards(writer);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String questions(DeckGenerator generator) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = new JsonStreamWriter(out)) {
+            generator.writeQuestions(writer);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tests that the output depends only on the seed, and that a larger deck starts with the smaller one.
+     * @throws IOException if the JSON cannot be written.
+     */
+    @Test
+    void testDeterministicOutput() throws IOException {
+        DeckGenerator small = new DeckGenerator(7, 10, 3, 5, 2, 6, 0, 500);
+        DeckGenerator large = new DeckGenerator(7, 20, 6, 5, 2, 6, 0, 500);
+
+        assertEquals(flashcards(small), flashcards(new DeckGenerator(7, 10, 3, 5, 2, 6, 0, 500)));
+        assertEquals(questions(small), questions(new DeckGenerator(7, 10, 3, 5, 2, 6, 0, 500)));
+        assertNotEquals(flashcards(small), flashcards(new DeckGenerator(8, 10, 3, 5, 2, 6, 0, 500)));
+        String smallCards = flashcards(small);
+        assertTrue(flashcards(large).startsWith(smallCards.substring(0, smallCards.length() - 1) + ","));
+        String smallQuestions = questions(small);
+        assertTrue(questions(large).startsWith(smallQuestions.substring(0, smallQuestions.length() - 1) + ","));
+    }
+
+    /**
+     * Tests that the generated files load with the requested sizes, choice counts and Info lengths.
+     * @throws IOException if the files cannot be written.
+     */
+    @Test
+    void testFilesLoad() throws IOException {
+        new DeckGenerator(1, 50, 4, 3, 2, 5, 10, 300).writeTo(directory.toString());
+
+        String flashcardsPath = directory.resolve(DatabaseJson.DEFAULT_FLASHCARDS_JSON_PATH).toString();
+        List<Flashcard> flashcards = new DatabaseJson(flashcardsPath).getFlashcards();
+        assertEquals(50, flashcards.size());
+        assertEquals(DeckGenerator.cardTitle(49), flashcards.get(49).getTitle());
+        for (Flashcard flashcard : flashcards) {
+            int length = flashcard.getInfo().length();
+            assertTrue(length >= 10 && length <= 300, "Info length " + length);
+        }
+
+        QuizData quizData = new QuizData(directory.resolve(QuizData.DEFAULT_QUIZ_JSON_PATH).toString());
+        assertEquals(4, quizData.getOrderedCategoryKeys().size());
+        assertEquals(DeckGenerator.categoryName(0), quizData.getOrderedCategoryKeys().get(0));
+        for (String category : quizData.getOrderedCategoryKeys()) {
+            List<QuizQuestion> questions = quizData.getQuestionsForCategory(category);
+            assertEquals(3, questions.size());
+            for (QuizQuestion question : questions) {
+                int choices = question.getChoices().size();
+                assertTrue(choices >= 2 && choices <= 5, "Choice count " + choices);
+                assertTrue(question.getCorrectAnswerIndex() < choices);
+            }
+        }
+    }
+
+    /**
+     * Tests that a large deck streams without being held in memory.
+     * @throws IOException if the JSON cannot be written.
+     */
+    @Test
+    void testStreamsLargeDeck() throws IOException {
+        long[] bytes = new long[1];
+        OutputStream counter = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes[0]++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes[0] += len;
+            }
+        };
+        DeckGenerator generator = new DeckGenerator(3, 20_000, 2_000, 10, 4, 4, 1000, 1000);
+        try (JsonStreamWriter writer = new JsonStreamWriter(counter)) {
+            generator.writeFlashcards(writer);
+        }
+        try (JsonStreamWriter writer = new JsonStreamWriter(counter)) {
+            generator.writeQuestions(writer);
+        }
+
+        assertTrue(bytes[0] > 20_000L * 1000, "Wrote " + bytes[0] + " bytes");
+    }
+
+    /**
+     * Tests parsing command line options, including ranges, and rejecting unknown options.
+     * @throws IOException if the JSON cannot be written.
+     */
+    @Test
+    void testFromOptions() throws IOException {
+        DeckGenerator parsed = DeckGenerator.fromOptions("cards=5", "categories=2", "questions=3",
+                "choices=2-3", "info=20-40", "seed=9");
+
+        assertEquals(flashcards(new DeckGenerator(9, 5, 2, 3, 2, 3, 20, 40)), flashcards(parsed));
+        assertEquals(questions(new DeckGenerator(9, 5, 2, 3, 2, 3, 20, 40)), questions(parsed));
+        assertEquals(flashcards(new DeckGenerator(DeckGenerator.DEFAULT_SEED)),
+                flashcards(DeckGenerator.fromOptions()));
+        assertThrows(IllegalArgumentException.class, () -> DeckGenerator.fromOptions("decks=5"));
+        assertThrows(IllegalArgumentException.class, () -> DeckGenerator.fromOptions("cards=many"));
+        assertThrows(IllegalArgumentException.class, () -> DeckGenerator.fromOptions("choices=3-2"));
+    }
+}
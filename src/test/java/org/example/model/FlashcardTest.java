@@ -0,0 +1,36 @@
+package org.example.model;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Flashcard class.
+ */
+class FlashcardTest {
+
+    /**
+     * Tests that the getters return the constructor values.
+     */
+    @Test
+    void testGetters() {
+        Flashcard flashcard = new Flashcard("Title", "Info");
+
+        assertEquals("Title", flashcard.getTitle());
+        assertEquals("Info", flashcard.getInfo());
+    }
+
+    /**
+     * Tests the conversion from and to the JSON form, including the default Info text.
+     */
+    @Test
+    void testJsonConversion() {
+        Flashcard flashcard = Flashcard.fromJson(new JSONObject().put("Title", "Only title"));
+
+        assertEquals(Flashcard.NO_INFO, flashcard.getInfo());
+        JSONObject json = new Flashcard("Title", "Info").toJson();
+        assertEquals("Title", json.getString("Title"));
+        assertEquals("Info", json.getString("Info"));
+    }
+}
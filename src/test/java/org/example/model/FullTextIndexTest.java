@@ -0,0 +1,82 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FullTextIndex class.
+ */
+class FullTextIndexTest {
+
+    /**
+     * Tests that results are ordered by relevance rather than by insertion order.
+     */
+    @Test
+    void testSearchRanksByRelevance() {
+        FullTextIndex index = new FullTextIndex();
+        index.update("Collections", "Lists, sets and maps hold objects in memory.");
+        index.update("Streams", "Streams process elements lazily. A stream pipeline chains stream operations.");
+        index.update("Threads", "Threads run code concurrently and may share streams of data.");
+
+        assertEquals(List.of("Streams", "Threads"), index.search("stream", 10));
+        assertEquals(List.of("Streams"), index.search("stream", 1));
+        assertTrue(index.search("garbage", 10).isEmpty());
+    }
+
+    /**
+     * Tests that words are matched through their light stem and that stop words are ignored.
+     */
+    @Test
+    void testTokenizeStemsAndDropsStopWords() {
+        assertEquals(List.of("stream", "stream", "stream", "class", "query"),
+                FullTextIndex.tokenize("Streaming the STREAMS, streamed classes; queries!"));
+        assertEquals(FullTextIndex.stem("create"), FullTextIndex.stem("created"));
+        assertEquals("run", FullTextIndex.stem("running"));
+    }
+
+    /**
+     * Tests that only documents whose text changed are reindexed, and that removed documents are no longer found.
+     */
+    @Test
+    void testIncrementalUpdates() {
+        FullTextIndex index = new FullTextIndex();
+        assertTrue(index.update("a", "alpha text"));
+        assertTrue(index.update("b", "beta text"));
+
+        assertFalse(index.update("a", "alpha text"));
+        assertTrue(index.update("a", "gamma text"));
+        assertTrue(index.search("alpha", 10).isEmpty());
+        assertEquals(List.of("a"), index.search("gamma", 10));
+
+        assertEquals(1, index.retainAll(List.of("a")));
+        assertEquals(1, index.size());
+        assertEquals(List.of("a"), index.search("text", 10));
+        assertFalse(index.remove("b"));
+    }
+
+    /**
+     * Tests that updating and removing documents over and over does not grow the index, and that ranking
+     * survives the compaction of removed documents.
+     */
+    @Test
+    void testRemovalDoesNotGrowIndex() {
+        FullTextIndex index = new FullTextIndex();
+        for (int i = 0; i < 10; i++) {
+            index.update("doc" + i, "common text " + i);
+        }
+        for (int round = 0; round < 1000; round++) {
+            index.update("doc" + round % 10, "common text round " + round);
+            index.update("temp", "temporary " + round);
+            index.remove("temp");
+        }
+
+        assertEquals(10, index.size());
+        assertTrue(index.capacity() <= 2 * index.size() + FullTextIndex.MIN_COMPACTION_GARBAGE);
+        assertEquals(List.of("doc9"), index.search("999", 10));
+        assertEquals(10, index.search("common", 20).size());
+        assertTrue(index.search("temporary", 10).isEmpty());
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FuzzyMatcher class.
+ */
+class FuzzyMatcherTest {
+
+    /**
+     * Tests that misspelled queries find the category, closest matches first.
+     */
+    @Test
+    void testSearchToleratesTypos() {
+        FuzzyMatcher matcher = new FuzzyMatcher();
+        matcher.add("Polymorphism");
+        matcher.add("Polymorphic Types");
+        matcher.add("Inheritance");
+
+        assertEquals(List.of("Polymorphism"), matcher.search("polymorfism", 10));
+        assertEquals(List.of("Polymorphism", "Polymorphic Types"), matcher.search("Polymorphsim", 10));
+        assertEquals(List.of("Inheritance"), matcher.search("inheritence", 10));
+        assertTrue(matcher.search("encapsulation", 10).isEmpty());
+    }
+
+    /**
+     * Tests that every query word has to match a word of the name.
+     */
+    @Test
+    void testAllQueryWordsMustMatch() {
+        FuzzyMatcher matcher = new FuzzyMatcher();
+        matcher.add("Java Streams");
+        matcher.add("Java Threads");
+
+        assertEquals(List.of("Java Streams"), matcher.search("jav streems", 10));
+        assertEquals(List.of("Java Streams", "Java Threads"), matcher.search("java", 10));
+        assertEquals(List.of("Java Streams"), matcher.search("java", 1));
+    }
+
+    /**
+     * Tests the edit distance and the distance allowed for words of different lengths.
+     */
+    @Test
+    void testDistance() {
+        assertEquals(0, FuzzyMatcher.distance("loop", "loop"));
+        assertEquals(1, FuzzyMatcher.distance("loop", "lop"));
+        assertEquals(3, FuzzyMatcher.distance("kitten", "sitting"));
+        assertEquals(0, FuzzyMatcher.maxDistance("io"));
+        assertEquals(1, FuzzyMatcher.maxDistance("array"));
+        assertEquals(2, FuzzyMatcher.maxDistance("generics"));
+    }
+}
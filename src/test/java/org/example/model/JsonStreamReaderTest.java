@@ -0,0 +1,123 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JsonStreamReader class.
+ */
+class JsonStreamReaderTest {
+
+    private static JsonStreamReader readerFor(String json) {
+        return new JsonStreamReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests reading names, strings, numbers and nested containers in order.
+     * @throws IOException if the JSON cannot be read.
+     */
+    @Test
+    void testReadsTokensInOrder() throws IOException {
+        JsonStreamReader reader = readerFor("[ {\"name\" : \"value\", \"count\": -42, \"list\": [1, 2]} ]");
+
+        reader.beginArray();
+        assertTrue(reader.hasNext());
+        reader.beginObject();
+        assertEquals("name", reader.nextName());
+        assertEquals("value", reader.nextString());
+        assertEquals("count", reader.nextName());
+        assertEquals(-42, reader.nextInt());
+        assertEquals("list", reader.nextName());
+        reader.beginArray();
+        assertEquals(1, reader.nextInt());
+        assertEquals(2, reader.nextInt());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        reader.endArray();
+        assertEquals(JsonStreamReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    /**
+     * Tests that escapes and multi-byte UTF-8 characters are decoded.
+     * @throws IOException if the JSON cannot be read.
+     */
+    @Test
+    void testDecodesEscapesAndUnicode() throws IOException {
+        JsonStreamReader reader = readerFor("[\"line\\nbreak \\\"quoted\\\" \\u00e5\\ud83d\\ude00 ö\"]");
+
+        reader.beginArray();
+        assertEquals("line\nbreak \"quoted\" å😀 ö", reader.nextString());
+        reader.endArray();
+    }
+
+    /**
+     * Tests that skipValue skips nested values and that position reports byte offsets.
+     * @throws IOException if the JSON cannot be read.
+     */
+    @Test
+    void testSkipValueAndPosition() throws IOException {
+        String json = "[{\"a\":{\"b\":[true,null,1.5e3]}}, \"after\"]";
+        JsonStreamReader reader = readerFor(json);
+
+        reader.beginArray();
+        reader.skipValue();
+        assertEquals(json.indexOf("\"after\""), reader.position());
+        assertEquals("after", reader.nextString());
+        reader.endArray();
+    }
+
+    /**
+     * Tests that readValue builds the same structure as org.json.
+     * @throws IOException if the JSON cannot be read.
+     */
+    @Test
+    void testReadValueMatchesJsonArray() throws IOException {
+        String json = "[{\"text\":\"x\",\"flag\":false,\"n\":3,\"nested\":[{}]}]";
+
+        JSONArray array = (JSONArray) readerFor(json).readValue();
+
+        assertTrue(array.similar(new JSONArray(json)));
+        JSONObject object = array.getJSONObject(0);
+        assertEquals(3, object.getInt("n"));
+    }
+
+    /**
+     * Tests that malformed input is reported as an IOException.
+     */
+    @Test
+    void testMalformedInputThrows() {
+        assertThrows(IOException.class, () -> readerFor("[\"a\" \"b\"]").readValue());
+        assertThrows(IOException.class, () -> readerFor("[\"unterminated").readValue());
+    }
+
+    /**
+     * Tests that trailing commas in arrays and objects are rejected.
+     */
+    @Test
+    void testTrailingCommaThrows() {
+        assertThrows(MalformedJsonException.class, () -> readerFor("[1, 2,]").readValue());
+        assertThrows(MalformedJsonException.class, () -> readerFor("{\"a\": 1,}").readValue());
+    }
+
+    /**
+     * Tests that integers outside the long range throw instead of wrapping around.
+     * @throws IOException if the JSON cannot be read.
+     */
+    @Test
+    void testLongRange() throws IOException {
+        assertEquals(Long.MAX_VALUE, readerFor("9223372036854775807").nextLong());
+        assertEquals(Long.MIN_VALUE, readerFor("-9223372036854775808").nextLong());
+        assertThrows(MalformedJsonException.class, () -> readerFor("9223372036854775808").nextLong());
+        assertThrows(MalformedJsonException.class, () -> readerFor("-9223372036854775809").nextLong());
+        assertThrows(MalformedJsonException.class, () -> readerFor("4294967296").nextInt());
+    }
+}
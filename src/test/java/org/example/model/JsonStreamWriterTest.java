@@ -0,0 +1,83 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JsonStreamWriter class.
+ */
+class JsonStreamWriterTest {
+
+    /**
+     * Tests writing names, strings, numbers and nested containers with separators in place.
+     * @throws IOException if the JSON cannot be written.
+     */
+    @Test
+    void testWritesTokensInOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = new JsonStreamWriter(out)) {
+            writer.beginArray()
+                    .beginObject().name("name").value("value").name("count").value(-42)
+                    .name("list").beginArray().value(1).value(true).nullValue().endArray().endObject()
+                    .value("second")
+                    .endArray();
+        }
+
+        assertEquals("[{\"name\":\"value\",\"count\":-42,\"list\":[1,true,null]},\"second\"]",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that strings needing escapes survive a round trip through the JsonStreamReader.
+     * @throws IOException if the JSON cannot be written or read.
+     */
+    @Test
+    void testEscapesRoundTrip() throws IOException {
+        String text = "quote \" backslash \\ newline \n tab \t control \u0001 separator   emoji 😀";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = new JsonStreamWriter(out)) {
+            writer.value(text);
+        }
+
+        JsonStreamReader reader = new JsonStreamReader(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(text, reader.nextString());
+    }
+
+    /**
+     * Tests that org.json values are written element by element and parse back to equal values.
+     * @throws IOException if the JSON cannot be written.
+     */
+    @Test
+    void testWritesOrgJsonValues() throws IOException {
+        JSONArray array = new JSONArray()
+                .put(new JSONObject().put("text", "Card").put("n", 2).put("ratio", 0.5))
+                .put(JSONObject.NULL)
+                .put(new JSONArray().put("nested"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = new JsonStreamWriter(out)) {
+            writer.value((Object) array);
+        }
+
+        assertTrue(array.similar(new JSONArray(out.toString(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Tests that misplaced tokens are rejected instead of producing invalid JSON.
+     */
+    @Test
+    void testRejectsInvalidStructure() {
+        JsonStreamWriter writer = new JsonStreamWriter(new ByteArrayOutputStream());
+
+        assertThrows(IOException.class, writer::endArray);
+        assertThrows(IOException.class, () -> writer.beginObject().value("no name"));
+        assertThrows(IOException.class, writer::close);
+    }
+}
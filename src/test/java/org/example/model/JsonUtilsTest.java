@@ -4,10 +4,15 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,7 +22,10 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class JsonUtilsTest {
 
-    private static final String TEST_JSON_PATH = "src/test/resources/test.json";
+    private String testJsonPath;
+
+    @TempDir
+    Path directory;
 
     /**
      * Sets up the test environment by creating a test JSON file before each test.
@@ -27,7 +35,8 @@ class JsonUtilsTest {
     void setUp() throws IOException {
         // Prepare test JSON file content
         String jsonContent = "[{\"key\":\"value\"}]";
-        Files.write(Paths.get(TEST_JSON_PATH), jsonContent.getBytes());
+        testJsonPath = directory.resolve("test.json").toString();
+        Files.write(Paths.get(testJsonPath), jsonContent.getBytes());
     }
 
     /**
@@ -35,7 +44,7 @@ class JsonUtilsTest {
      */
     @Test
     void testReadJsonFile() {
-        JSONArray jsonArray = JsonUtils.readJsonFile(TEST_JSON_PATH);
+        JSONArray jsonArray = JsonUtils.readJsonFile(testJsonPath);
 
         assertEquals(1, jsonArray.length());
         JSONObject jsonObject = jsonArray.getJSONObject(0);
@@ -49,9 +58,9 @@ class JsonUtilsTest {
     @Test
     void testReadEmptyJsonFile() throws IOException {
         // Prepare empty test JSON file content
-        Files.write(Paths.get(TEST_JSON_PATH), "[]".getBytes());
+        Files.write(Paths.get(testJsonPath), "[]".getBytes());
 
-        JSONArray jsonArray = JsonUtils.readJsonFile(TEST_JSON_PATH);
+        JSONArray jsonArray = JsonUtils.readJsonFile(testJsonPath);
 
         assertTrue(jsonArray.isEmpty());
     }
@@ -62,13 +71,10 @@ class JsonUtilsTest {
      */
     @Test
     void testEnsureFileExists() throws IOException {
-        String nonExistentPath = "src/test/resources/non_existent.json";
+        String nonExistentPath = directory.resolve("non_existent.json").toString();
         JsonUtils.ensureFileExists(nonExistentPath);
 
         assertTrue(Files.exists(Paths.get(nonExistentPath)));
-
-        // Cleanup
-        Files.deleteIfExists(Paths.get(nonExistentPath));
     }
 
     /**
@@ -79,10 +85,86 @@ class JsonUtilsTest {
         JSONArray jsonArray = new JSONArray();
         jsonArray.put(new JSONObject().put("key", "new_value"));
 
-        JsonUtils.writeJsonFile(TEST_JSON_PATH, jsonArray);
+        JsonUtils.writeJsonFile(testJsonPath, jsonArray);
 
-        JSONArray readArray = JsonUtils.readJsonFile(TEST_JSON_PATH);
+        JSONArray readArray = JsonUtils.readJsonFile(testJsonPath);
         assertEquals(1, readArray.length());
         assertEquals("new_value", readArray.getJSONObject(0).getString("key"));
     }
+
+    /**
+     * Tests that a write keeps the previous version as a backup and leaves no temporary file behind.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testWriteJsonFileKeepsBackupOfPreviousVersion() throws IOException {
+        JsonUtils.writeJsonFile(testJsonPath, new JSONArray().put(new JSONObject().put("key", "second")));
+
+        Path backupPath = Paths.get(testJsonPath + ".bak");
+        assertEquals("value", new JSONArray(Files.readString(backupPath)).getJSONObject(0).getString("key"));
+        assertFalse(Files.exists(Paths.get(testJsonPath + ".tmp")));
+    }
+
+    /**
+     * Tests that a truncated file is recovered from its backup instead of resetting to an empty array.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testReadJsonFileRecoversTruncatedFileFromBackup() throws IOException {
+        JsonUtils.writeJsonFile(testJsonPath, new JSONArray().put(new JSONObject().put("key", "second")));
+        Files.write(Paths.get(testJsonPath), "[{\"key\":\"thi".getBytes());
+
+        JSONArray jsonArray = JsonUtils.readJsonFile(testJsonPath);
+        assertEquals(1, jsonArray.length());
+        assertEquals("value", jsonArray.getJSONObject(0).getString("key"));
+    }
+
+    /**
+     * Tests that concurrent durable writes of the same file all complete and leave the last queued version.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    void testConcurrentDurableWritesLeaveLatestVersion() throws InterruptedException {
+        Thread[] writers = new Thread[8];
+        for (int i = 0; i < writers.length; i++) {
+            int value = i;
+            writers[i] = new Thread(() -> JsonUtils.writeJsonFile(testJsonPath,
+                    new JSONArray().put(new JSONObject().put("key", value)), true));
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        JsonUtils.writeJsonFile(testJsonPath, new JSONArray().put(new JSONObject().put("key", "last")), true);
+
+        assertEquals("last", JsonUtils.readJsonFile(testJsonPath).getJSONObject(0).getString("key"));
+    }
+
+    /**
+     * Tests that the elements of a JSON array file are streamed to the consumer in order.
+     */
+    @Test
+    void testReadJsonRecords() {
+        JsonUtils.writeJsonFile(testJsonPath, new JSONArray().put(new JSONObject().put("key", "a")).put(2));
+        List<Object> records = new ArrayList<>();
+
+        assertEquals(2, JsonUtils.readJsonRecords(testJsonPath, records::add));
+        assertEquals("a", ((JSONObject) records.get(0)).getString("key"));
+        assertEquals(2, records.get(1));
+    }
+
+    /**
+     * Tests that streamed content is written as UTF-8 whatever the platform charset.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testWriteJsonFileStreamsUtf8Content() throws IOException {
+        JsonUtils.writeJsonFile(testJsonPath, writer -> writer.beginArray()
+                .beginObject().name("key").value("Gr\u00f6\u00dfe \u2713").endObject()
+                .endArray(), false);
+
+        assertEquals("[{\"key\":\"Gr\u00f6\u00dfe \u2713\"}]",
+                new String(Files.readAllBytes(Paths.get(testJsonPath)), StandardCharsets.UTF_8));
+        assertEquals("Gr\u00f6\u00dfe \u2713", JsonUtils.readJsonFile(testJsonPath).getJSONObject(0).getString("key"));
+    }
 }
@@ -0,0 +1,206 @@
+package org.example.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MultiUserProgressStore class.
+ */
+class MultiUserProgressStoreTest {
+
+    private String storeDirectory;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Sets up the store directory inside the test directory, so the store creates it as it would on first use.
+     */
+    @BeforeEach
+    void setUp() {
+        storeDirectory = directory.resolve("multiUserProgressStoreTest").toString();
+    }
+
+    /**
+     * Tests that completions are kept per user and survive closing and reopening the store.
+     */
+    @Test
+    void testCompleteAndReload() {
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory, 10_000)) {
+            assertTrue(store.complete("alice", 3));
+            assertFalse(store.complete("alice", 3));
+            assertTrue(store.complete("alice", 200));
+            assertTrue(store.complete("bob/..é", 0));
+            assertTrue(store.isDone("alice", 3));
+            assertFalse(store.isDone("bob/..é", 3));
+        }
+
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory)) {
+            assertTrue(store.isDone("alice", 3));
+            assertTrue(store.isDone("alice", 200));
+            assertFalse(store.isDone("alice", 4));
+            assertEquals(2, store.doneCount("alice"));
+            assertEquals(1, store.doneCount("bob/..é"));
+            assertEquals(0, store.doneCount("carol"));
+            assertTrue(Files.exists(store.path("alice")));
+            assertFalse(Files.exists(store.path("carol")));
+        }
+    }
+
+    /**
+     * Tests that a reset clears a completion and that completions of one user are saved together.
+     */
+    @Test
+    void testResetAndBatchedSaves() {
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory, 10_000)) {
+            store.complete("alice", 1);
+            store.complete("alice", 2);
+            assertTrue(store.reset("alice", 1));
+            assertFalse(store.reset("alice", 1));
+            assertFalse(store.reset("alice", 1000));
+            store.flush();
+
+            WriteBehindStats stats = store.writeStats();
+            assertEquals(3, stats.getSubmittedWrites());
+            assertEquals(2, stats.getCoalescedWrites());
+            assertEquals(1, stats.getFlushCount());
+        }
+
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory)) {
+            assertFalse(store.isDone("alice", 1));
+            assertTrue(store.isDone("alice", 2));
+        }
+    }
+
+    /**
+     * Tests that item ids are kept by name across reopening the store, whatever order the names come in.
+     */
+    @Test
+    void testItemIdsArePersisted() {
+        int[] ids;
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory)) {
+            ids = store.itemIds(List.of("Loops", "Arrays"));
+            assertArrayEquals(new int[] {0, 1}, ids);
+        }
+
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory)) {
+            assertArrayEquals(new int[] {2, ids[1], ids[0]}, store.itemIds(List.of("Streams", "Arrays", "Loops")));
+            assertFalse(Files.exists(store.path("items.index")));
+        }
+    }
+
+    /**
+     * Tests that users beyond the cache size are dropped once saved, and read back from their files.
+     */
+    @Test
+    void testSavedUsersAreEvicted() {
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory, 10_000, 8)) {
+            for (int u = 0; u < 20; u++) {
+                store.complete("user" + u, u);
+            }
+            // Unsaved users are never dropped
+            assertEquals(20, store.cachedUsers());
+
+            store.flush();
+            store.isDone("reader", 0);
+            assertTrue(store.cachedUsers() <= 8);
+            for (int u = 0; u < 20; u++) {
+                assertTrue(store.isDone("user" + u, u));
+                assertEquals(1, store.doneCount("user" + u));
+            }
+            assertTrue(store.cachedUsers() <= 8);
+        }
+    }
+
+    /**
+     * Tests that a user name too long for a file name is rejected.
+     */
+    @Test
+    void testLongUserNameIsRejected() {
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory)) {
+            String user = "é".repeat(MultiUserProgressStore.MAX_USER_BYTES / 2 + 1);
+            assertThrows(IllegalArgumentException.class, () -> store.complete(user, 0));
+            assertFalse(store.isDone("é".repeat(MultiUserProgressStore.MAX_USER_BYTES / 2), 0));
+        }
+    }
+
+    /**
+     * Tests that users differing only in case get file names that differ without case, and that saves keep
+     * no backup.
+     */
+    @Test
+    void testFileNamesIgnoreCase() throws Exception {
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory)) {
+            String alice = store.path("Alice").getFileName().toString();
+            String lower = store.path("alice").getFileName().toString();
+            assertFalse(alice.equalsIgnoreCase(lower));
+            assertEquals(alice.toLowerCase(), alice);
+            assertEquals("mzxw6.bits", store.path("foo").getFileName().toString());
+            String longest = "é".repeat(MultiUserProgressStore.MAX_USER_BYTES / 2);
+            assertTrue(store.path(longest).getFileName().toString().length() <= 255);
+
+            store.complete("Alice", 1);
+            store.complete("alice", 2);
+            store.flush();
+            store.complete("Alice", 3);
+            store.flush();
+        }
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory)) {
+            assertEquals(2, store.doneCount("Alice"));
+            assertEquals(1, store.doneCount("alice"));
+            assertFalse(Files.exists(JsonUtils.backupPath(store.path("Alice"))));
+        }
+    }
+
+    /**
+     * Tests that 64 threads mixing reads and completions over shared users lose no completion.
+     * @throws Exception if a worker fails.
+     */
+    @Test
+    void testConcurrentReadsAndCompletions() throws Exception {
+        int threads = 64;
+        int users = 256;
+        int opsPerThread = 20_000;
+        try (MultiUserProgressStore store = new MultiUserProgressStore(storeDirectory, 50)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        String user = "user" + random.nextInt(users);
+                        if (i % 10 == 0) {
+                            // Every completion is of a distinct item, so a lost update lowers the total
+                            store.complete(user, thread * opsPerThread / 10 + i / 10);
+                        } else {
+                            store.isDone(user, random.nextInt(threads * opsPerThread / 10));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            executor.shutdown();
+
+            int total = 0;
+            for (int u = 0; u < users; u++) {
+                total += store.doneCount("user" + u);
+            }
+            assertEquals(threads * opsPerThread / 10, total);
+        }
+    }
+}
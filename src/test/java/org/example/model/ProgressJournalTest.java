@@ -0,0 +1,89 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ProgressJournal class.
+ */
+class ProgressJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private Path snapshotPath;
+    private Path journalPath;
+
+    /**
+     * Sets up the snapshot and journal paths in the temporary directory.
+     */
+    @BeforeEach
+    void setUp() {
+        snapshotPath = directory.resolve("progressJournalTest.json");
+        journalPath = directory.resolve("progressJournalTest.json.journal");
+    }
+
+    /**
+     * Tests that journal records are replayed over the snapshot, the latest record for a button winning.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testLoadReplaysJournalOverSnapshot() throws IOException {
+        Files.writeString(snapshotPath,
+                "[{\"text\":\"Loops\",\"icon\":\"gray\"},{\"text\":\"Loops\",\"icon\":\"gray\"},"
+                        + "{\"text\":\"Arrays\",\"icon\":\"green\"}]");
+        Files.writeString(journalPath,
+                "{\"text\":\"Loops\",\"n\":1,\"icon\":\"green\"}\n"
+                        + "{\"text\":\"Streams\",\"n\":0,\"icon\":\"gray\"}\n"
+                        + "{\"text\":\"Streams\",\"n\":0,\"icon\":\"green\"}\n");
+
+        JSONArray states = new ProgressJournal(snapshotPath.toString()).load();
+
+        assertEquals(4, states.length());
+        assertState(states.getJSONObject(0), "Loops", 0, "gray");
+        assertState(states.getJSONObject(1), "Loops", 1, "green");
+        assertState(states.getJSONObject(2), "Arrays", 0, "green");
+        assertState(states.getJSONObject(3), "Streams", 0, "green");
+    }
+
+    /**
+     * Tests that progress with neither a snapshot nor a journal loads as empty.
+     */
+    @Test
+    void testLoadWithoutFiles() {
+        assertEquals(0, new ProgressJournal(snapshotPath.toString()).load().length());
+    }
+
+    /**
+     * Tests that a record cut short by a crash is skipped and does not swallow the next record.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testDamagedRecordIsSkipped() throws IOException {
+        Files.writeString(journalPath,
+                "{\"text\":\"A\",\"n\":0,\"icon\":\"green\"}\n"
+                        + "{\"text\":\"B\",\"ic\n"
+                        + "{\"text\":\"C\",\"n\":0,\"icon\":\"green\"}\n");
+
+        JSONArray states = new ProgressJournal(snapshotPath.toString()).load();
+
+        assertEquals(2, states.length());
+        assertState(states.getJSONObject(0), "A", 0, "green");
+        assertState(states.getJSONObject(1), "C", 0, "green");
+    }
+
+    private static void assertState(JSONObject state, String text, int occurrence, String icon) {
+        assertEquals(text, state.getString("text"));
+        assertEquals(occurrence, state.getInt("n"));
+        assertEquals(icon, state.getString("icon"));
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ProgressStore class.
+ */
+class ProgressStoreTest {
+
+    private String basePath;
+    private Path idsPath;
+    private Path bitsPath;
+    private Path backupPath;
+    private Path logPath;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Sets up the paths of the store files in the test directory.
+     */
+    @BeforeEach
+    void setUp() {
+        basePath = directory.resolve("progressStoreTest").toString();
+        idsPath = directory.resolve("progressStoreTest.ids");
+        bitsPath = directory.resolve("progressStoreTest.bits");
+        backupPath = directory.resolve("progressStoreTest.bits.bak");
+        logPath = directory.resolve("progressStoreTest.log");
+    }
+
+    /**
+     * Tests that ids and completion states survive a save and load, and that ids stay stable.
+     */
+    @Test
+    void testSaveAndLoad() {
+        ProgressStore store = new ProgressStore(basePath);
+        int first = store.id("Generics", 0);
+        int second = store.id("Generics", 1);
+        int third = store.id("Streams", 0);
+        store.setDone(second, true);
+        store.save();
+
+        ProgressStore loaded = new ProgressStore(basePath);
+        assertTrue(loaded.exists());
+        loaded.load();
+        assertEquals(3, loaded.size());
+        assertEquals(third, loaded.id("Streams", 0));
+        assertEquals(first, loaded.id("Generics", 0));
+        assertFalse(loaded.isDone(first));
+        assertTrue(loaded.isDone(second));
+        assertEquals(1, loaded.doneCount());
+        assertEquals(3, loaded.id("Lambdas", 0));
+    }
+
+    /**
+     * Tests that JSON states are migrated with their occurrences, only green states counting as completed.
+     */
+    @Test
+    void testMigrate() {
+        JSONArray states = new JSONArray()
+                .put(new JSONObject().put("text", "Generics").put("icon", "gray"))
+                .put(new JSONObject().put("text", "Generics").put("icon", "green"))
+                .put(new JSONObject().put("text", "Streams").put("n", 0).put("icon", "green"));
+        ProgressStore store = new ProgressStore(basePath);
+
+        assertEquals(2, store.migrate(states));
+        assertFalse(store.isDone(store.id("Generics", 0)));
+        assertTrue(store.isDone(store.id("Generics", 1)));
+        assertTrue(store.isDone(store.id("Streams", 0)));
+        assertEquals(3, store.size());
+    }
+
+    /**
+     * Tests that a key cut short by a crash is dropped and that keys saved afterwards keep their ids.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testTruncatedIdFileIsRepaired() throws IOException {
+        ProgressStore store = new ProgressStore(basePath);
+        store.id("Generics", 0);
+        store.save();
+        Files.write(idsPath, new byte[]{0, 0, 0, 20, (byte) 'S', (byte) 't'}, StandardOpenOption.APPEND);
+
+        ProgressStore reopened = new ProgressStore(basePath);
+        reopened.load();
+        assertEquals(1, reopened.size());
+        int streams = reopened.id("Streams", 0);
+        reopened.setDone(streams, true);
+        reopened.save();
+
+        ProgressStore loaded = new ProgressStore(basePath);
+        loaded.load();
+        assertEquals(2, loaded.size());
+        assertEquals(streams, loaded.id("Streams", 0));
+        assertTrue(loaded.isDone(streams));
+    }
+
+    /**
+     * Tests that the completion bits of 100,000 items take a few bytes per thousand items and load quickly.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testLargeStoreIsCompact() throws IOException {
+        ProgressStore store = new ProgressStore(basePath);
+        for (int i = 0; i < 100_000; i++) {
+            int id = store.id("Card " + i, 0);
+            store.setDone(id, i % 3 == 0);
+        }
+        store.save();
+
+        assertTrue(Files.size(bitsPath) <= 8 + 100_000 / 8 + 8);
+        ProgressStore loaded = new ProgressStore(basePath);
+        loaded.load();
+        assertEquals(100_000, loaded.size());
+        assertEquals(store.doneCount(), loaded.doneCount());
+        assertTrue(loaded.isDone(loaded.id("Card 99999", 0)));
+    }
+
+    /**
+     * Tests that a save appends four bytes per changed item to the journal without rewriting the bits,
+     * that the journal is replayed on load, and that it is compacted into the bits once it grows long.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testChangesAreJournaledAndCompacted() throws IOException {
+        ProgressStore store = new ProgressStore(basePath);
+        for (int i = 0; i < 10_000; i++) {
+            store.id("Card " + i, 0);
+        }
+        store.save();
+        byte[] bits = Files.readAllBytes(bitsPath);
+
+        store.setDone(5, true);
+        store.save();
+        store.setDone(9_999, true);
+        store.setDone(5, false);
+        store.save();
+        assertEquals(3 * Integer.BYTES, Files.size(logPath));
+        assertArrayEquals(bits, Files.readAllBytes(bitsPath));
+
+        // A change cut short by a crash is dropped and overwritten by the next save
+        Files.write(logPath, new byte[]{0, 0}, StandardOpenOption.APPEND);
+        ProgressStore loaded = new ProgressStore(basePath);
+        loaded.load();
+        assertFalse(loaded.isDone(5));
+        assertTrue(loaded.isDone(9_999));
+        loaded.setDone(7, true);
+        loaded.save();
+        assertEquals(4 * Integer.BYTES, Files.size(logPath));
+
+        for (int i = 0; i < ProgressStore.MIN_COMPACTION_RECORDS; i++) {
+            loaded.setDone(i, true);
+            loaded.save();
+        }
+        assertTrue(Files.size(logPath) < ProgressStore.MIN_COMPACTION_RECORDS * Integer.BYTES);
+        assertEquals(-1L, ProgressStore.readBits(bitsPath)[0]);
+
+        ProgressStore reloaded = new ProgressStore(basePath);
+        reloaded.load();
+        assertEquals(loaded.doneCount(), reloaded.doneCount());
+        for (int i = 0; i < ProgressStore.MIN_COMPACTION_RECORDS; i++) {
+            assertTrue(reloaded.isDone(i));
+        }
+        assertTrue(reloaded.isDone(9_999));
+    }
+
+    /**
+     * Tests that each compaction keeps the previous bits as a backup and that damaged bits are read from it.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testDamagedBitsRecoverFromBackup() throws IOException {
+        ProgressStore store = new ProgressStore(basePath);
+        int first = store.id("Generics", 0);
+        int second = store.id("Streams", 0);
+        store.setDone(first, true);
+        store.save();
+        assertFalse(Files.exists(backupPath));
+        store.setDone(second, true);
+        store.compact();
+        assertTrue(Files.exists(backupPath));
+
+        Files.writeString(bitsPath, "damaged");
+        ProgressStore loaded = new ProgressStore(basePath);
+        loaded.load();
+        assertTrue(loaded.isDone(first));
+        assertFalse(loaded.isDone(second));
+
+        // Saving over the damaged bits keeps the backup of the last good version
+        loaded.save();
+        assertEquals(1, ProgressStore.readBits(backupPath).length);
+        assertEquals(1L << first, ProgressStore.readBits(backupPath)[0]);
+    }
+}
@@ -1,12 +1,16 @@
 package org.example.model;
 
+import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,7 +21,10 @@ import static org.junit.jupiter.api.Assertions.*;
 class QuizDataTest {
 
     private QuizData quizData;
-    private static final String TEST_JSON_PATH = "questionsTest.json";
+    private String testJsonPath;
+
+    @TempDir
+    Path directory;
 
     /**
      * Sets up the test environment before each test.
@@ -27,11 +34,11 @@ class QuizDataTest {
     void setUp() throws IOException {
         // Prepare test JSON file content
         String jsonContent = "[{\"category\":\"Category 1\",\"questions\":[{\"questionText\":\"Question 1\",\"choices\":[\"Choice 1\",\"Choice 2\"],\"correctAnswerIndex\":0}]},{\"category\":\"Category 2\",\"questions\":[{\"questionText\":\"Question 2\",\"choices\":[\"Choice 3\",\"Choice 4\"],\"correctAnswerIndex\":1}]}]";
-        Files.createDirectories(Paths.get("src/test/resources"));
-        Files.write(Paths.get(TEST_JSON_PATH), jsonContent.getBytes());
+        testJsonPath = directory.resolve("questionsTest.json").toString();
+        Files.write(Paths.get(testJsonPath), jsonContent.getBytes());
 
         // Create QuizData instance with the test path
-        quizData = new QuizData(TEST_JSON_PATH);
+        quizData = new QuizData(testJsonPath);
     }
 
     /**
@@ -69,4 +76,75 @@ class QuizDataTest {
 
         assertTrue(questions.isEmpty());
     }
+
+    /**
+     * Tests that lazy mode lists the categories in file order and parses each one on demand.
+     */
+    @Test
+    void testLazyLoadQuizData() {
+        QuizData lazyQuizData = new QuizData(testJsonPath, true);
+
+        assertEquals(List.of("Category 1", "Category 2"), lazyQuizData.getOrderedCategoryKeys());
+
+        List<QuizQuestion> questionsCategory2 = lazyQuizData.getQuestionsForCategory("Category 2");
+        assertEquals(1, questionsCategory2.size());
+        assertEquals("Question 2", questionsCategory2.get(0).getQuestionText());
+        assertEquals(List.of("Choice 3", "Choice 4"), questionsCategory2.get(0).getChoices());
+        assertEquals(1, questionsCategory2.get(0).getCorrectAnswerIndex());
+        assertSame(questionsCategory2, lazyQuizData.getQuestionsForCategory("Category 2"));
+        assertTrue(lazyQuizData.getQuestionsForCategory("NonExistentCategory").isEmpty());
+    }
+
+    /**
+     * Tests that lazy mode saves a sidecar index next to the JSON file that a later instance reuses.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testLazyModeReusesSidecarIndex() throws IOException {
+        QuizData first = new QuizData(testJsonPath, true);
+        assertEquals(directory.resolve("questionsTest.json.idx"), first.getIndexPath());
+        assertTrue(Files.exists(first.getIndexPath()));
+        long[] stamp = ResourceLocator.stamp(ResourceLocator.locate(testJsonPath));
+        assertNotNull(CategoryIndex.load(first.getIndexPath(), stamp));
+        assertNull(CategoryIndex.load(first.getIndexPath(), new long[]{stamp[0] + 1, stamp[1]}));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "no temporary file is left next to the index");
+        }
+
+        QuizData second = new QuizData(testJsonPath, true);
+        assertEquals(first.getOrderedCategoryKeys(), second.getOrderedCategoryKeys());
+        assertEquals("Question 1", second.getQuestionsForCategory("Category 1").get(0).getQuestionText());
+    }
+
+    /**
+     * Tests that lazy mode keeps parsed categories in a bounded cache and reports its counters.
+     */
+    @Test
+    void testLazyModeCacheStats() {
+        QuizData lazyQuizData = new QuizData(testJsonPath, true, 1, Long.MAX_VALUE);
+
+        lazyQuizData.getQuestionsForCategory("Category 1");
+        lazyQuizData.getQuestionsForCategory("Category 1");
+        lazyQuizData.getQuestionsForCategory("Category 2");
+
+        CacheStats stats = lazyQuizData.getCacheStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(1, stats.getSize());
+        assertEquals("Question 1", lazyQuizData.getQuestionsForCategory("Category 1").get(0).getQuestionText());
+    }
+
+    /**
+     * Tests that a malformed file fails to load instead of loading partially, in both modes.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    void testMalformedFileThrows() throws IOException {
+        Files.write(Paths.get(testJsonPath), "[{\"category\":\"Category 1\",\"questions\":[]},]".getBytes());
+
+        assertThrows(JSONException.class, () -> new QuizData(testJsonPath));
+        assertThrows(JSONException.class, () -> new QuizData(testJsonPath, true));
+    }
 }
@@ -0,0 +1,100 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the QuizScorer class.
+ */
+class QuizScorerTest {
+
+    private static List<QuizQuestion> questions(int... correctIndexes) {
+        List<QuizQuestion> questions = new ArrayList<>();
+        for (int i = 0; i < correctIndexes.length; i++) {
+            questions.add(new QuizQuestion("Question " + i, List.of("A", "B", "C", "D"), correctIndexes[i]));
+        }
+        return questions;
+    }
+
+    /**
+     * Tests that correct, incorrect and unanswered questions are counted separately.
+     */
+    @Test
+    void testScore() {
+        QuizScorer scorer = new QuizScorer(questions(0, 1, 2, 3, 0));
+
+        QuizResult result = scorer.score(new int[]{0, 1, 0, QuizScorer.UNANSWERED, 0});
+
+        assertEquals(3, result.getCorrectCount());
+        assertEquals(1, result.getIncorrectCount());
+        assertEquals(1, result.getUnansweredCount());
+        assertEquals(5, result.getQuestionCount());
+        assertFalse(result.isPassed());
+    }
+
+    /**
+     * Tests that the default threshold needs five correct answers and that a custom threshold is honored.
+     */
+    @Test
+    void testPassThreshold() {
+        List<QuizQuestion> questions = questions(0, 1, 2, 3, 0);
+        int[] allCorrect = {0, 1, 2, 3, 0};
+        int[] fourCorrect = {0, 1, 2, 3, 1};
+
+        assertTrue(new QuizScorer(questions).score(allCorrect).isPassed());
+        assertFalse(new QuizScorer(questions).passes(fourCorrect));
+        assertTrue(new QuizScorer(questions, 4).passes(fourCorrect));
+        assertEquals(4, new QuizScorer(questions, 4).getPassThreshold());
+    }
+
+    /**
+     * Tests that a category of more than five questions is passed by five or more correct answers.
+     */
+    @Test
+    void testPassWithMoreQuestionsThanThreshold() {
+        QuizScorer scorer = new QuizScorer(questions(0, 1, 2, 3, 0, 1));
+
+        assertTrue(scorer.score(new int[]{0, 1, 2, 3, 0, 1}).isPassed());
+        assertTrue(scorer.passes(new int[]{0, 1, 2, 3, 0, 0}));
+        assertFalse(scorer.passes(new int[]{0, 1, 2, 3, 1, 0}));
+    }
+
+    /**
+     * Tests that selections shorter or longer than the quiz are tolerated.
+     */
+    @Test
+    void testMismatchedSelectionLength() {
+        QuizScorer scorer = new QuizScorer(questions(2, 2, 2));
+
+        assertEquals(1, scorer.countCorrect(new int[]{2}));
+        assertEquals(2, scorer.score(new int[]{1}).getUnansweredCount());
+        assertEquals(3, scorer.countCorrect(new int[]{2, 2, 2, 2, 2}));
+    }
+
+    /**
+     * Tests that about a million attempts can be graded in well under a second.
+     */
+    @Test
+    void testGradesManyAttemptsQuickly() {
+        QuizScorer scorer = new QuizScorer(questions(0, 1, 2, 3, 0));
+        int[] attempt = new int[5];
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            int passed = 0;
+            for (int i = 0; i < 1 << 20; i++) {
+                for (int q = 0; q < attempt.length; q++) {
+                    attempt[q] = (i >> (q * 2)) & 3;
+                }
+                if (scorer.passes(attempt)) {
+                    passed++;
+                }
+            }
+            assertEquals(1 << 10, passed);
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TitleSearchIndex class.
+ */
+class TitleSearchIndexTest {
+
+    /**
+     * Tests that queries match titles case-insensitively, with short and long queries.
+     */
+    @Test
+    void testSearchMatchesSubstrings() {
+        TitleSearchIndex index = new TitleSearchIndex(List.of("Java Streams", "JavaScript", "Python", "Go"));
+
+        assertEquals(bits(0, 1), index.search("java"));
+        assertEquals(bits(0), index.search("  STREAM "));
+        assertEquals(bits(2, 3), index.search("o"));
+        assertEquals(bits(), index.search("rust"));
+        assertEquals(bits(0, 1, 2, 3), index.search(""));
+    }
+
+    /**
+     * Tests that a query is not matched across the boundary between two titles.
+     */
+    @Test
+    void testSearchDoesNotSpanTitles() {
+        TitleSearchIndex index = new TitleSearchIndex(List.of("abc", "def"));
+
+        assertEquals(bits(), index.search("cde"));
+        assertEquals(bits(), index.search("cd"));
+    }
+
+    /**
+     * Tests that titles added after construction get increasing ids and are searchable.
+     */
+    @Test
+    void testAddAfterConstruction() {
+        TitleSearchIndex index = new TitleSearchIndex();
+        assertEquals(0, index.add("First card"));
+        assertEquals(1, index.add("Second card"));
+
+        assertEquals(2, index.size());
+        assertEquals(bits(1), index.search("second"));
+    }
+
+    /**
+     * Tests that the index agrees with a plain contains check over many random titles.
+     */
+    @Test
+    void testAgreesWithLinearScan() {
+        Random random = new Random(42);
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int j = 0; j < 4 + random.nextInt(12); j++) {
+                title.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(4)));
+            }
+            titles.add(title.toString());
+        }
+        TitleSearchIndex index = new TitleSearchIndex(titles);
+
+        for (String query : List.of("a", "Ab", "abc", "dcba", "bbbb", "abcdab")) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < titles.size(); i++) {
+                if (titles.get(i).toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT))) {
+                    expected.set(i);
+                }
+            }
+            assertEquals(expected, index.search(query), query);
+        }
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the WriteBehindService class.
+ */
+class WriteBehindServiceTest {
+
+    /**
+     * Tests that writes with the same key are coalesced into the latest one, in first-submission order.
+     */
+    @Test
+    void testSubmitCoalescesWritesWithTheSameKey() {
+        List<String> written = new ArrayList<>();
+        try (WriteBehindService service = new WriteBehindService(60_000)) {
+            service.submit("a", () -> written.add("a1"));
+            service.submit("b", () -> written.add("b1"));
+            service.submit("a", () -> written.add("a2"));
+
+            WriteBehindStats stats = service.stats();
+            assertEquals(2, stats.getPendingWrites());
+            assertEquals(3, stats.getSubmittedWrites());
+            assertEquals(1, stats.getCoalescedWrites());
+            assertTrue(written.isEmpty());
+
+            service.flush();
+            assertEquals(List.of("a2", "b1"), written);
+            assertEquals(0, service.stats().getPendingWrites());
+            assertEquals(1, service.stats().getFlushCount());
+        }
+    }
+
+    /**
+     * Tests that pending writes run on the background thread once the delay has passed.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    void testWritesRunInTheBackgroundAfterTheDelay() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        try (WriteBehindService service = new WriteBehindService(10)) {
+            service.submit("a", () -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("write-behind"), threads);
+        }
+    }
+
+    /**
+     * Tests that a failing write does not stop the others and that closing flushes what is pending.
+     */
+    @Test
+    void testCloseFlushesPendingWritesDespiteFailures() {
+        List<String> written = new ArrayList<>();
+        WriteBehindService service = new WriteBehindService(60_000);
+        service.submit("fails", () -> {
+            throw new IllegalStateException("disk full");
+        });
+        service.submit("b", () -> written.add("b"));
+        service.close();
+
+        assertEquals(List.of("b"), written);
+        WriteBehindStats stats = service.stats();
+        assertEquals(1, stats.getFlushCount());
+        assertTrue(stats.getMaxFlushNanos() >= stats.getLastFlushNanos());
+        assertEquals(stats.getLastFlushNanos(), stats.getAverageFlushNanos());
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.swing.ImageIcon;
+import javax.swing.JButton;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for CardGrid.
+ *
+ * @author Mounir Darwich
+ */
+class CardGridTest {
+
+    private CardGrid<String> cardGrid;
+
+    /**
+     * Sets up the test environment before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        cardGrid = new CardGrid<>();
+    }
+
+    /**
+     * Tests that setting and appending cards updates the model.
+     */
+    @Test
+    void testSetAndAddCards() {
+        Card<String> first = new Card<>("First", null, "first");
+        cardGrid.setCards(List.of(first, new Card<>("Second", null, "second")));
+        cardGrid.addCards(List.of(new Card<>("Third", null, "third")));
+
+        assertEquals(3, cardGrid.getModel().getSize());
+        assertSame(first, cardGrid.getModel().getElementAt(0));
+
+        cardGrid.setCards(List.of());
+        assertEquals(0, cardGrid.getModel().getSize());
+    }
+
+    /**
+     * Tests that activating a card hands it to the card action of the grid.
+     */
+    @Test
+    void testActivateRunsCardAction() {
+        List<String> activated = new ArrayList<>();
+        cardGrid.setCardAction(card -> activated.add(card.getItem()));
+        cardGrid.setCards(List.of(new Card<>("Click", null, "click")));
+
+        cardGrid.activate(0);
+        cardGrid.activate(1);
+        assertEquals(List.of("click"), activated);
+    }
+
+    /**
+     * Tests that the renderer shows the title and the current icon of the card.
+     */
+    @Test
+    void testRendererCopiesTitleAndIcon() {
+        ImageIcon icon = new ImageIcon(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+        Card<String> card = new Card<>("Rendered", null, "rendered");
+        cardGrid.setCards(List.of(card));
+
+        JButton stamp = (JButton) cardGrid.getCellRenderer()
+                .getListCellRendererComponent(cardGrid, card, 0, false, false);
+        assertEquals("Rendered", stamp.getText());
+        assertNull(stamp.getIcon());
+
+        card.setIcon(icon);
+        stamp = (JButton) cardGrid.getCellRenderer().getListCellRendererComponent(cardGrid, card, 0, false, false);
+        assertSame(icon, stamp.getIcon());
+    }
+}
@@ -1,15 +1,23 @@
 package org.example.view;
 
+import org.example.model.Flashcard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Test class for FlashcardFrame.
@@ -50,6 +58,76 @@ class FlashcardFrameTest {
         assertEquals("Test Button", flashcardFrame.getButtons().get(0).getText());
     }
 
+    /**
+     * Tests adding several buttons at once.
+     */
+    @Test
+    void testAddButtons() {
+        flashcardFrame.addButtons(List.of(new JButton("Bulk 1"), new JButton("Bulk 2"), new JButton("Bulk 3")));
+
+        assertEquals(3, flashcardFrame.getButtons().size());
+        assertEquals(3, flashcardFrame.panel.getComponentCount());
+        assertEquals(5, flashcardFrame.getButtons().get(2).getIconTextGap());
+    }
+
+    /**
+     * Tests that progressive adding registers every button at once but places only the first chunk immediately.
+     */
+    @Test
+    void testAddButtonsProgressively() {
+        flashcardFrame.addButtonsProgressively(List.of(new JButton("Chunk 1"), new JButton("Chunk 2"),
+                new JButton("Chunk 3")), 2);
+
+        assertEquals(3, flashcardFrame.getButtons().size());
+        assertEquals(2, flashcardFrame.panel.getComponentCount());
+    }
+
+    /**
+     * Tests that cards are shown in the virtualized grid without any component per card, can be searched,
+     * and reach the card action of the frame when activated.
+     */
+    @Test
+    void testCardsAreShownInTheGrid() {
+        List<Card<Flashcard>> deck = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            deck.add(new Card<>("Card " + i, null, new Flashcard("Card " + i, "Info " + i)));
+        }
+        flashcardFrame.addCards(deck);
+
+        assertEquals(0, flashcardFrame.panel.getComponentCount());
+        assertTrue(flashcardFrame.getButtons().isEmpty());
+        assertEquals(deck.size(), flashcardFrame.cardGrid.getModel().getSize());
+        assertEquals(deck, flashcardFrame.getCards());
+
+        flashcardFrame.updateButtonVisibility("card 100");
+        assertEquals(2, flashcardFrame.cardGrid.getModel().getSize());
+
+        List<Flashcard> activated = new ArrayList<>();
+        flashcardFrame.setCardAction(card -> activated.add(card.getItem()));
+        flashcardFrame.cardGrid.activate(1);
+        assertEquals(List.of(deck.get(1000).getItem()), activated);
+    }
+
+    /**
+     * Tests that the icon of a card is what the grid paints, and that a frame holds cards or buttons, not both.
+     */
+    @Test
+    void testCardIconsAndKinds() {
+        Card<Flashcard> card = new Card<>("Card", null, new Flashcard("Card", "Info"));
+        flashcardFrame.addCards(List.of(card));
+
+        ImageIcon icon = new ImageIcon(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+        card.setIcon(icon);
+        JButton stamp = (JButton) flashcardFrame.cardGrid.getCellRenderer()
+                .getListCellRendererComponent(flashcardFrame.cardGrid, card, 0, false, false);
+        assertSame(icon, stamp.getIcon());
+
+        assertThrows(IllegalStateException.class, () -> flashcardFrame.addButton(new JButton("Button")));
+        FlashcardFrame buttonFrame = new FlashcardFrame(mainFrame);
+        buttonFrame.addButton(new JButton("Button"));
+        assertThrows(IllegalStateException.class, () -> buttonFrame.addCards(List.of(card)));
+    }
+
     /**
      * Tests that the properties of the added buttons are set correctly.
      */
@@ -110,6 +188,51 @@ class FlashcardFrameTest {
     }
 
 
+    /**
+     * Tests that a search only moves the buttons whose visibility changed and keeps the deck order.
+     */
+    @Test
+    void testSearchKeepsOrderOfUnchangedButtons() {
+        JButton alpha = new JButton("Alpha");
+        JButton beta = new JButton("Beta");
+        JButton alphabet = new JButton("Alphabet");
+        flashcardFrame.addButtons(List.of(alpha, beta, alphabet));
+
+        flashcardFrame.updateButtonVisibility("alpha");
+        assertEquals(2, flashcardFrame.panel.getComponentCount());
+        assertEquals(alphabet, flashcardFrame.panel.getComponent(1));
+
+        flashcardFrame.updateButtonVisibility("zzz");
+        assertEquals(1, flashcardFrame.panel.getComponentCount());
+
+        flashcardFrame.updateButtonVisibility("");
+        assertEquals(beta, flashcardFrame.panel.getComponent(1));
+        assertEquals(3, flashcardFrame.panel.getComponentCount());
+    }
+
+    /**
+     * Tests that the buttons found by the ranked search are shown first in rank order, followed by the title
+     * matches it did not rank.
+     */
+    @Test
+    void testRankedSearchResultsComeFirst() {
+        JButton streams = new JButton("Streams");
+        JButton threads = new JButton("Threads");
+        JButton lambdas = new JButton("Lambdas");
+        flashcardFrame.addButtons(List.of(streams, threads, lambdas));
+        flashcardFrame.setRankedSearch(query -> List.of("Lambdas", "Threads"));
+
+        flashcardFrame.updateButtonVisibility("streams");
+        assertEquals(3, flashcardFrame.panel.getComponentCount());
+        assertEquals(lambdas, flashcardFrame.panel.getComponent(0));
+        assertEquals(threads, flashcardFrame.panel.getComponent(1));
+        assertEquals(streams, flashcardFrame.panel.getComponent(2));
+
+        flashcardFrame.setRankedSearch(null);
+        flashcardFrame.updateButtonVisibility("");
+        assertEquals(threads, flashcardFrame.panel.getComponent(1));
+    }
+
     /**
      * Tests that the search timer is running when a search is performed.
      */
@@ -124,6 +247,27 @@ class FlashcardFrameTest {
         assertTrue(flashcardFrame.searchTimer.isRunning());
     }
 
+    /**
+     * Tests that typing in the search field filters the buttons without pressing Enter.
+     *
+     * @throws Exception if waiting for the Event Dispatch Thread fails.
+     */
+    @Test
+    void testSearchAsYouType() throws Exception {
+        flashcardFrame.addButtons(List.of(new JButton("Live 1"), new JButton("Live 2")));
+
+        flashcardFrame.searchField.setText("Live 2");
+        long deadline = System.currentTimeMillis() + 5000;
+        int[] count = new int[1];
+        do {
+            Thread.sleep(10);
+            SwingUtilities.invokeAndWait(() -> count[0] = flashcardFrame.panel.getComponentCount());
+        } while (count[0] != 1 && System.currentTimeMillis() < deadline);
+
+        assertEquals(1, count[0]);
+        assertEquals("Live 2", ((JButton) flashcardFrame.panel.getComponent(0)).getText());
+    }
+
     /**
      * Tests that the search timer is not running initially.
      */
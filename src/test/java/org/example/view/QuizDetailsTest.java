@@ -8,6 +8,7 @@ import javax.swing.JRadioButton;
 import javax.swing.ButtonGroup;
 import java.util.List;
 import java.util.ArrayList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -90,4 +91,20 @@ class QuizDetailsTest {
         assertEquals("Paris", correctAnswers.get(0).getText());
         assertEquals(4, questionGroups.get(0).getButtonCount());
     }
+
+    /**
+     * Tests that the selected choice of every question is reported by index, -1 for unanswered questions.
+     */
+    @Test
+    void testGetSelectedChoices() {
+        quizDetails.createQuestionPanel("First?", List.of("A", "B", "C"), 0);
+        quizDetails.createQuestionPanel("Second?", List.of("A", "B"), 1);
+        List<JRadioButton> firstChoices = new ArrayList<>();
+        quizDetails.getQuestionGroups().get(0).getElements().asIterator()
+                .forEachRemaining(button -> firstChoices.add((JRadioButton) button));
+
+        firstChoices.get(2).setSelected(true);
+
+        assertArrayEquals(new int[]{2, -1}, quizDetails.getSelectedChoices());
+    }
 }